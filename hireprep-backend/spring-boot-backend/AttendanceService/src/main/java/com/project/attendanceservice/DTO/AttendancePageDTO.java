@@ -0,0 +1,19 @@
+package com.project.attendanceservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One keyset page of attendance records, newest first.
+ * Pass nextCursor back as the cursor parameter to get the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePageDTO {
+    private List<AttendanceResponseDTO> records;
+    private String nextCursor;
+}
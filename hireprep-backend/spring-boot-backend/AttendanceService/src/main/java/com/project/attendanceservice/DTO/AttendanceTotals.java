@@ -0,0 +1,9 @@
+package com.project.attendanceservice.DTO;
+
+/**
+ * Projection of a student's summed attendance counters
+ */
+public interface AttendanceTotals {
+    Long getTotalClasses();
+    Long getClassesAttended();
+}
@@ -0,0 +1,15 @@
+package com.project.attendanceservice.DTO;
+
+import lombok.Data;
+
+@Data
+public class FacultyMonthlyStatsDTO {
+    private String facultyUsername;
+    private String subject;
+    // yyyy-MM
+    private String month;
+    private Long sessions;
+    private Long totalRecords;
+    private Long presentCount;
+    private Double attendancePercentage;
+}
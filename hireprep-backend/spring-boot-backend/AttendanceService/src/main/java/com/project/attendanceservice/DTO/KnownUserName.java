@@ -0,0 +1,9 @@
+package com.project.attendanceservice.DTO;
+
+/**
+ * Projection of a username with a display name previously stored on attendance rows
+ */
+public interface KnownUserName {
+    String getUsername();
+    String getName();
+}
@@ -0,0 +1,15 @@
+package com.project.attendanceservice.DTO;
+
+import lombok.Data;
+
+@Data
+public class StudentMonthlyStatsDTO {
+    private String studentUsername;
+    private String subject;
+    // yyyy-MM
+    private String month;
+    private Long totalClasses;
+    private Long classesAttended;
+    private Long classesMissed;
+    private Double attendancePercentage;
+}
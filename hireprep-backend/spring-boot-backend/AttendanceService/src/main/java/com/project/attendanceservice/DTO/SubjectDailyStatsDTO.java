@@ -0,0 +1,14 @@
+package com.project.attendanceservice.DTO;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class SubjectDailyStatsDTO {
+    private String subject;
+    private LocalDate date;
+    private Long totalRecords;
+    private Long presentCount;
+    private Double attendancePercentage;
+}
@@ -0,0 +1,49 @@
+package com.project.attendanceservice.client;
+
+import com.project.attendanceservice.DTO.KnownUserName;
+import com.project.attendanceservice.DTO.UserProfileDTO;
+import com.project.attendanceservice.repository.AttendanceRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Degraded profiles built from the studentName/facultyName stored on attendance rows,
+ * used while Profile Service is unavailable. The role comes from the side of the record
+ * the user appeared on; email and phone number are unknown.
+ */
+@Component
+public class LastKnownProfiles {
+
+    private final AttendanceRepository attendanceRepository;
+
+    public LastKnownProfiles(AttendanceRepository attendanceRepository) {
+        this.attendanceRepository = attendanceRepository;
+    }
+
+    public Map<String, UserProfileDTO> find(Collection<String> usernames) {
+        Map<String, UserProfileDTO> profiles = new HashMap<>();
+        for (KnownUserName known : attendanceRepository.findKnownStudentNames(usernames)) {
+            profiles.put(known.getUsername(), toProfile(known, "STUDENT"));
+        }
+        for (KnownUserName known : attendanceRepository.findKnownFacultyNames(usernames)) {
+            profiles.putIfAbsent(known.getUsername(), toProfile(known, "FACULTY"));
+        }
+        return profiles;
+    }
+
+    private UserProfileDTO toProfile(KnownUserName known, String role) {
+        UserProfileDTO profile = new UserProfileDTO();
+        profile.setUsername(known.getUsername());
+        profile.setRole(role);
+
+        // Stored as getFullName(): "<firstName> <lastName>"
+        String name = known.getName() != null ? known.getName() : known.getUsername();
+        int space = name.indexOf(' ');
+        profile.setFirstName(space < 0 ? name : name.substring(0, space));
+        profile.setLastName(space < 0 ? "" : name.substring(space + 1));
+        return profile;
+    }
+}
@@ -1,14 +1,39 @@
 package com.project.attendanceservice.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.project.attendanceservice.DTO.UserProfileDTO;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 /**
- * Client to communicate with Profile Service
+ * Client to communicate with Profile Service.
+ * Profiles are kept in a bounded TTL cache that loads misses asynchronously; Profile Service
+ * evicts entries through ProfileCacheController when a user is updated or deleted. An eviction
+ * that lands while a load is in flight drops that load, so it never caches the stale profile.
+ * Calls go through a bulkhead and circuit breaker; while Profile Service is unavailable,
+ * profiles fall back to the names stored on attendance rows (LastKnownProfiles).
  */
 @Component
 @Slf4j
@@ -16,29 +41,102 @@ public class ProfileServiceClient {
 
     private final RestTemplate restTemplate;
     private final String profileServiceUrl;
+    private final AsyncCache<String, UserProfileDTO> profileCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final LastKnownProfiles lastKnownProfiles;
 
     public ProfileServiceClient(
             RestTemplate restTemplate,
-            @Value("${profile.service.url:http://localhost:8081}") String profileServiceUrl) {
+            @Value("${profile.service.url:http://localhost:8081}") String profileServiceUrl,
+            AsyncCache<String, UserProfileDTO> profileCache,
+            CircuitBreaker profileServiceCircuitBreaker,
+            Bulkhead profileServiceBulkhead,
+            LastKnownProfiles lastKnownProfiles) {
         this.restTemplate = restTemplate;
         this.profileServiceUrl = profileServiceUrl;
+        this.profileCache = profileCache;
+        this.circuitBreaker = profileServiceCircuitBreaker;
+        this.bulkhead = profileServiceBulkhead;
+        this.lastKnownProfiles = lastKnownProfiles;
     }
 
     /**
-     * Get user profile by username from Profile Service
+     * Get user profile by username, from the cache or Profile Service
      */
     public UserProfileDTO getUserProfile(String username) {
+        try {
+            // The fetch runs on the cache's executor, outside the map bin lock, so a virtual
+            // thread waiting here parks instead of pinning its carrier
+            return join(profileCache.get(username, (key, executor) ->
+                    CompletableFuture.supplyAsync(() -> fetchUserProfile(key), executor)));
+        } catch (ProfileServiceUnavailableException e) {
+            UserProfileDTO lastKnown = lastKnownProfiles.find(List.of(username)).get(username);
+            if (lastKnown == null) {
+                throw e;
+            }
+            log.warn("Profile Service unavailable, using last known profile for {}", username);
+            return lastKnown;
+        }
+    }
+
+    /**
+     * Get user profiles for several usernames, fetching only cache misses from Profile Service.
+     * Usernames unknown to Profile Service are absent from the returned map.
+     */
+    public Map<String, UserProfileDTO> getUserProfiles(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return new HashMap<>(join(profileCache.getAll(usernames, (keys, executor) ->
+                    CompletableFuture.supplyAsync(() -> fetchUserProfiles(keys), executor))));
+        } catch (ProfileServiceUnavailableException e) {
+            // Degraded answers are not cached, so callers switch back as soon as the breaker closes
+            Map<String, UserProfileDTO> profiles = new HashMap<>(profileCache.synchronous().getAllPresent(usernames));
+            List<String> missing = usernames.stream()
+                    .filter(username -> !profiles.containsKey(username))
+                    .toList();
+            profiles.putAll(lastKnownProfiles.find(missing));
+            if (!profiles.keySet().containsAll(usernames)) {
+                throw e;
+            }
+            log.warn("Profile Service unavailable, using last known profiles for {} users", missing.size());
+            return profiles;
+        }
+    }
+
+    public void evictProfile(String username) {
+        log.info("Evicting cached profile: {}", username);
+        profileCache.synchronous().invalidate(username);
+    }
+
+    // Rethrow a failed load as the exception the loader threw
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private UserProfileDTO fetchUserProfile(String username) {
         try {
             String url = profileServiceUrl + "/api/profile/" + username;
             log.info("Fetching profile for username: {} from {}", username, url);
 
-            UserProfileDTO profile = restTemplate.getForObject(url, UserProfileDTO.class);
+            UserProfileDTO profile = callProfileService(() -> restTemplate.getForObject(url, UserProfileDTO.class));
 
             if (profile == null) {
                 throw new RuntimeException("User not found: " + username);
             }
 
             return profile;
+        } catch (ProfileServiceUnavailableException e) {
+            throw e;
         } catch (HttpClientErrorException.NotFound e) {
             log.error("User not found: {}", username);
             throw new RuntimeException("User not found: " + username);
@@ -48,6 +146,44 @@ public class ProfileServiceClient {
         }
     }
 
+    private Map<String, UserProfileDTO> fetchUserProfiles(Set<? extends String> usernames) {
+        Map<String, UserProfileDTO> profiles = new HashMap<>();
+        try {
+            String url = profileServiceUrl + "/api/profile/batch";
+            log.info("Fetching {} profiles from {}", usernames.size(), url);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            HttpEntity<Collection<String>> entity = new HttpEntity<>(new ArrayList<>(usernames), headers);
+
+            UserProfileDTO[] response = callProfileService(
+                    () -> restTemplate.postForObject(url, entity, UserProfileDTO[].class));
+
+            if (response != null) {
+                for (UserProfileDTO profile : response) {
+                    profiles.put(profile.getUsername(), profile);
+                }
+            }
+
+            return profiles;
+        } catch (ProfileServiceUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error fetching profiles for users: {}", usernames, e);
+            throw new RuntimeException("Unable to fetch user profiles: " + e.getMessage());
+        }
+    }
+
+    private <T> T callProfileService(Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException
+                 | ResourceAccessException | HttpServerErrorException e) {
+            log.error("Profile Service unavailable: {}", e.getMessage());
+            throw new ProfileServiceUnavailableException("Profile Service unavailable: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Verify if user exists and has the specified role
      */
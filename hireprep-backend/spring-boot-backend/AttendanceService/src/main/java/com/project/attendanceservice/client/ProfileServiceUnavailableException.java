@@ -0,0 +1,11 @@
+package com.project.attendanceservice.client;
+
+/**
+ * Profile Service could not be reached: I/O error, 5xx, open circuit breaker or full bulkhead
+ */
+public class ProfileServiceUnavailableException extends RuntimeException {
+
+    public ProfileServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.attendanceservice.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.attendanceservice.DTO.UserProfileDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process cache of profiles fetched from Profile Service.
+ * Misses load on profileLoadExecutor, so the HTTP call never runs under the cache's map lock;
+ * concurrent misses for a user share one load. Hit/miss/eviction counts are published as
+ * cache.* metrics under the name "profiles".
+ */
+@Configuration
+public class ProfileCacheConfig {
+
+    // Platform mode: as many loaders as the bulkhead admits; virtual mode: one per load
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService profileLoadExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${profile.service.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls) {
+        if (virtualThreads) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newFixedThreadPool(maxConcurrentCalls, new CustomizableThreadFactory("profile-load-"));
+    }
+
+    @Bean
+    public AsyncCache<String, UserProfileDTO> profileCache(
+            @Value("${profile.cache.max-size:10000}") long maxSize,
+            @Value("${profile.cache.ttl:10m}") Duration ttl,
+            @Qualifier("profileLoadExecutor") ExecutorService profileLoadExecutor,
+            MeterRegistry meterRegistry) {
+        AsyncCache<String, UserProfileDTO> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(profileLoadExecutor)
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "profiles");
+    }
+}
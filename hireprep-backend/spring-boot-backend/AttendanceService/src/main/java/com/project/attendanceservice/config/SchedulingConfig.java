@@ -0,0 +1,12 @@
+package com.project.attendanceservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled maintenance jobs such as the attendance summary rebuild
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
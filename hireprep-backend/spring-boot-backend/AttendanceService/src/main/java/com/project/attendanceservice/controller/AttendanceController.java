@@ -1,17 +1,28 @@
 package com.project.attendanceservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.attendanceservice.DTO.AttendancePageDTO;
 import com.project.attendanceservice.DTO.AttendanceRequestDTO;
 import com.project.attendanceservice.DTO.AttendanceResponseDTO;
 import com.project.attendanceservice.DTO.AttendanceStatsDTO;
+import com.project.attendanceservice.service.AttendanceRollupService;
 import com.project.attendanceservice.service.AttendanceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/api/attendance")
@@ -21,6 +32,12 @@ public class AttendanceController {
     @Autowired
     private AttendanceService service;
 
+    @Autowired
+    private AttendanceRollupService rollupService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Mark attendance for students
     @PostMapping("/mark")
     public ResponseEntity<?> markAttendance(@RequestBody AttendanceRequestDTO request) {
@@ -51,6 +68,32 @@ public class AttendanceController {
         }
     }
 
+    // Get one keyset page of a student's attendance, newest first
+    @GetMapping("/student/{username}/page")
+    public ResponseEntity<?> getStudentAttendancePage(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getStudentAttendancePage(username, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Stream all of a student's attendance as NDJSON
+    @GetMapping(value = "/student/{username}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> streamStudentAttendance(@PathVariable String username) {
+        try {
+            service.verifyStudent(username);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+        return ndjson(out -> service.streamStudentAttendance(username, writeLine(out)));
+    }
+
     // Get attendance statistics for a student
     @GetMapping("/student/{username}/stats")
     public ResponseEntity<?> getStudentStats(@PathVariable String username) {
@@ -77,12 +120,77 @@ public class AttendanceController {
         }
     }
 
+    // Get one keyset page of the records marked by a faculty, newest first
+    @GetMapping("/faculty/{username}/page")
+    public ResponseEntity<?> getFacultyAttendancePage(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getFacultyAttendancePage(username, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Stream all records marked by a faculty as NDJSON
+    @GetMapping(value = "/faculty/{username}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> streamFacultyAttendance(@PathVariable String username) {
+        try {
+            service.verifyFaculty(username);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+        return ndjson(out -> service.streamFacultyAttendance(username, writeLine(out)));
+    }
+
     // Get attendance by subject
     @GetMapping("/subject/{subject}")
     public ResponseEntity<List<AttendanceResponseDTO>> getAttendanceBySubject(@PathVariable String subject) {
         return ResponseEntity.ok(service.getAttendanceBySubject(subject));
     }
 
+    // Get one keyset page of attendance for a subject, newest first
+    @GetMapping("/subject/{subject}/page")
+    public ResponseEntity<?> getSubjectAttendancePage(
+            @PathVariable String subject,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getSubjectAttendancePage(subject, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Stream all attendance for a subject as NDJSON
+    @GetMapping(value = "/subject/{subject}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSubjectAttendance(@PathVariable String subject) {
+        return ndjson(out -> service.streamSubjectAttendance(subject, writeLine(out)));
+    }
+
+    // Get one keyset page of attendance taken on a date
+    @GetMapping("/date/{date}/page")
+    public ResponseEntity<?> getDateAttendancePage(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(service.getDateAttendancePage(date, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Stream all attendance taken on a date as NDJSON
+    @GetMapping(value = "/date/{date}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDateAttendance(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ndjson(out -> service.streamDateAttendance(date, writeLine(out)));
+    }
+
     // Delete attendance record
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAttendance(@PathVariable Long id) {
@@ -95,4 +203,62 @@ public class AttendanceController {
     public ResponseEntity<List<String>> getAllSubjects() {
         return ResponseEntity.ok(service.getAllSubjects());
     }
+
+    // Daily attendance per subject, read from the rollups; defaults to the last 12 months
+    @GetMapping("/analytics/subjects/daily")
+    public ResponseEntity<?> getSubjectDailyStats(
+            @RequestParam(required = false) String subject,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(rollupService.getSubjectDailyStats(subject, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Monthly sessions and turnout for a faculty's classes
+    @GetMapping("/analytics/faculty/{username}/monthly")
+    public ResponseEntity<?> getFacultyMonthlyStats(
+            @PathVariable String username,
+            @RequestParam(required = false) String subject,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(rollupService.getFacultyMonthlyStats(username, subject, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // Monthly attendance trend for a student, per subject
+    @GetMapping("/analytics/student/{username}/monthly")
+    public ResponseEntity<?> getStudentMonthlyStats(
+            @PathVariable String username,
+            @RequestParam(required = false) String subject,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(rollupService.getStudentMonthlyStats(username, subject, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private Consumer<AttendanceResponseDTO> writeLine(OutputStream out) {
+        return dto -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
 }
\ No newline at end of file
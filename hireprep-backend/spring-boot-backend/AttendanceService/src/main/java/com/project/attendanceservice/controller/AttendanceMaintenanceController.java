@@ -0,0 +1,38 @@
+package com.project.attendanceservice.controller;
+
+import com.project.attendanceservice.service.AttendanceRollupService;
+import com.project.attendanceservice.service.AttendanceSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * On-demand runs of the scheduled maintenance jobs. Lives under /internal, which the
+ * gateway does not route, so these full-table rebuilds cannot be triggered by clients.
+ */
+@RestController
+@RequestMapping("/internal/attendance")
+public class AttendanceMaintenanceController {
+
+    @Autowired
+    private AttendanceSummaryService summaryService;
+
+    @Autowired
+    private AttendanceRollupService rollupService;
+
+    // Recompute student attendance summaries from raw attendance records
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildSummaries() {
+        int rows = summaryService.rebuildSummaries();
+        return ResponseEntity.ok(Map.of("summaries", rows));
+    }
+
+    // Recompute the analytics rollups from raw attendance records
+    @PostMapping("/analytics/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildRollups() {
+        int rows = rollupService.rebuildRollups();
+        return ResponseEntity.ok(Map.of("rollups", rows));
+    }
+}
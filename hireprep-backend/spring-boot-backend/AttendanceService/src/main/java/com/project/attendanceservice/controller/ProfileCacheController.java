@@ -0,0 +1,24 @@
+package com.project.attendanceservice.controller;
+
+import com.project.attendanceservice.client.ProfileServiceClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Invalidation hook called by Profile Service when a profile changes.
+ * Lives under /internal, which the gateway does not route, so only other services can reach it.
+ */
+@RestController
+@RequestMapping("/internal/attendance/profile-cache")
+public class ProfileCacheController {
+
+    @Autowired
+    private ProfileServiceClient profileServiceClient;
+
+    @DeleteMapping("/{username}")
+    public ResponseEntity<Void> evictProfile(@PathVariable String username) {
+        profileServiceClient.evictProfile(username);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -10,9 +10,12 @@ import java.time.LocalDate;
  */
 @Entity
 @Data
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"student_username", "subject", "date"}))
 public class Attendance {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequence ids (not IDENTITY) so Hibernate can batch inserts from saveAll
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_seq")
+    @SequenceGenerator(name = "attendance_seq", sequenceName = "attendance_seq", allocationSize = 50)
     private Long id;
 
     // Store only username instead of full user object
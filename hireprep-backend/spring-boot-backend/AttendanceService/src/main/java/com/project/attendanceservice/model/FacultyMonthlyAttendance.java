@@ -0,0 +1,39 @@
+package com.project.attendanceservice.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance counters per faculty, subject and month (first day of the month).
+ * Maintained by AttendanceRollupService in the same transaction as attendance writes.
+ */
+@Entity
+@Data
+@Table(name = "attendance_faculty_monthly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"faculty_username", "subject", "month_start"}))
+public class FacultyMonthlyAttendance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "faculty_username", nullable = false)
+    private String facultyUsername;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    // Distinct days on which the faculty marked this subject
+    @Column(nullable = false)
+    private Long sessions = 0L;
+
+    @Column(name = "total_records", nullable = false)
+    private Long totalRecords = 0L;
+
+    @Column(name = "present_count", nullable = false)
+    private Long presentCount = 0L;
+}
@@ -0,0 +1,30 @@
+package com.project.attendanceservice.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Running attendance counters per student and subject.
+ * Maintained by AttendanceSummaryService in the same transaction as attendance writes.
+ */
+@Entity
+@Data
+@Table(name = "student_attendance_summary",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"student_username", "subject"}))
+public class StudentAttendanceSummary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_username", nullable = false)
+    private String studentUsername;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "total_classes", nullable = false)
+    private Long totalClasses = 0L;
+
+    @Column(name = "classes_attended", nullable = false)
+    private Long classesAttended = 0L;
+}
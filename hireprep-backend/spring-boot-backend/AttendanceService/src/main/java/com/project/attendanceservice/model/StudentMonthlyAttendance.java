@@ -0,0 +1,35 @@
+package com.project.attendanceservice.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance counters per student, subject and month (first day of the month).
+ * Maintained by AttendanceRollupService in the same transaction as attendance writes.
+ */
+@Entity
+@Data
+@Table(name = "attendance_student_monthly",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"student_username", "subject", "month_start"}))
+public class StudentMonthlyAttendance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "student_username", nullable = false)
+    private String studentUsername;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "total_classes", nullable = false)
+    private Long totalClasses = 0L;
+
+    @Column(name = "classes_attended", nullable = false)
+    private Long classesAttended = 0L;
+}
@@ -0,0 +1,32 @@
+package com.project.attendanceservice.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance counters per subject and day.
+ * Maintained by AttendanceRollupService in the same transaction as attendance writes.
+ */
+@Entity
+@Data
+@Table(name = "attendance_subject_daily",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"subject", "date"}))
+public class SubjectDailyAttendance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "total_records", nullable = false)
+    private Long totalRecords = 0L;
+
+    @Column(name = "present_count", nullable = false)
+    private Long presentCount = 0L;
+}
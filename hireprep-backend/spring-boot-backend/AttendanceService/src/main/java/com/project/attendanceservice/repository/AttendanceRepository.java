@@ -1,13 +1,24 @@
 package com.project.attendanceservice.repository;
 
+import com.project.attendanceservice.DTO.KnownUserName;
 import com.project.attendanceservice.model.Attendance;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
@@ -23,6 +34,32 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     // Find attendance by date
     List<Attendance> findByDate(LocalDate date);
 
+    // Keyset-paginated variants of the finders above, ordered by the sort passed in
+    Window<Attendance> findByStudentUsername(String username, KeysetScrollPosition position, Sort sort, Limit limit);
+
+    Window<Attendance> findByFacultyUsername(String username, KeysetScrollPosition position, Sort sort, Limit limit);
+
+    Window<Attendance> findBySubject(String subject, KeysetScrollPosition position, Sort sort, Limit limit);
+
+    Window<Attendance> findByDate(LocalDate date, KeysetScrollPosition position, Sort sort, Limit limit);
+
+    // Streaming variants of the finders above; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Attendance a WHERE a.studentUsername = :username ORDER BY a.date DESC, a.id DESC")
+    Stream<Attendance> streamByStudentUsername(@Param("username") String username);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Attendance a WHERE a.facultyUsername = :username ORDER BY a.date DESC, a.id DESC")
+    Stream<Attendance> streamByFacultyUsername(@Param("username") String username);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Attendance a WHERE a.subject = :subject ORDER BY a.date DESC, a.id DESC")
+    Stream<Attendance> streamBySubject(@Param("subject") String subject);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Attendance a WHERE a.date = :date ORDER BY a.id DESC")
+    Stream<Attendance> streamByDate(@Param("date") LocalDate date);
+
     // Find attendance by student and date
     Optional<Attendance> findByStudentUsernameAndSubjectAndDate(
             String studentUsername, String subject, LocalDate date);
@@ -31,6 +68,13 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     boolean existsByStudentUsernameAndSubjectAndDate(
             String studentUsername, String subject, LocalDate date);
 
+    // Find which of the given students already have attendance for a subject on a date
+    @Query("SELECT a.studentUsername FROM Attendance a WHERE a.studentUsername IN :usernames " +
+            "AND a.subject = :subject AND a.date = :date")
+    List<String> findMarkedStudentUsernames(@Param("usernames") Collection<String> usernames,
+                                            @Param("subject") String subject,
+                                            @Param("date") LocalDate date);
+
     // Get attendance count for a student
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.studentUsername = :username")
     Long countByStudentUsername(@Param("username") String username);
@@ -41,4 +85,13 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
 
     // Get attendance by student and subject
     List<Attendance> findByStudentUsernameAndSubject(String username, String subject);
-}
\ No newline at end of file
+
+    // Names stored when attendance was marked; last-known profile data while Profile Service is down
+    @Query("SELECT a.studentUsername AS username, MAX(a.studentName) AS name FROM Attendance a " +
+            "WHERE a.studentUsername IN :usernames GROUP BY a.studentUsername")
+    List<KnownUserName> findKnownStudentNames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT a.facultyUsername AS username, MAX(a.facultyName) AS name FROM Attendance a " +
+            "WHERE a.facultyUsername IN :usernames GROUP BY a.facultyUsername")
+    List<KnownUserName> findKnownFacultyNames(@Param("usernames") Collection<String> usernames);
+}
@@ -0,0 +1,96 @@
+package com.project.attendanceservice.repository;
+
+import com.project.attendanceservice.model.FacultyMonthlyAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface FacultyMonthlyAttendanceRepository extends JpaRepository<FacultyMonthlyAttendance, Long> {
+
+    // Get a faculty's monthly counters in a month range, optionally for one subject
+    @Query("SELECT r FROM FacultyMonthlyAttendance r " +
+            "WHERE r.facultyUsername = :username AND r.monthStart BETWEEN :from AND :to " +
+            "AND (:subject IS NULL OR r.subject = :subject) " +
+            "ORDER BY r.monthStart, r.subject")
+    List<FacultyMonthlyAttendance> findInRange(@Param("username") String facultyUsername,
+                                               @Param("subject") String subject,
+                                               @Param("from") LocalDate fromMonth,
+                                               @Param("to") LocalDate toMonth);
+
+    // Serialize marks and deletes of one faculty/subject/date session until commit, so the
+    // session checks below never run against another transaction's uncommitted rows
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(" +
+            "'attendance_session|' || CAST(:faculty AS text) || '|' || CAST(:subject AS text) " +
+            "|| '|' || CAST(:date AS text), 0))",
+            nativeQuery = true)
+    int lockSession(@Param("faculty") String facultyUsername,
+                    @Param("subject") String subject,
+                    @Param("date") LocalDate date);
+
+    // Add one marked class to the faculty's month; the session only counts if no other
+    // students were already marked by this faculty for the subject on that date
+    @Modifying
+    @Query(value = "INSERT INTO attendance_faculty_monthly " +
+            "(faculty_username, subject, month_start, sessions, total_records, present_count) " +
+            "SELECT a.faculty_username, a.subject, :month, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM attendance o WHERE o.faculty_username = :faculty " +
+            "AND o.subject = :subject AND o.date = :date AND o.student_username NOT IN (:usernames)) " +
+            "THEN 0 ELSE 1 END, " +
+            "COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "WHERE a.faculty_username = :faculty AND a.subject = :subject AND a.date = :date " +
+            "AND a.student_username IN (:usernames) " +
+            "GROUP BY a.faculty_username, a.subject " +
+            "ON CONFLICT (faculty_username, subject, month_start) DO UPDATE SET " +
+            "sessions = attendance_faculty_monthly.sessions + EXCLUDED.sessions, " +
+            "total_records = attendance_faculty_monthly.total_records + EXCLUDED.total_records, " +
+            "present_count = attendance_faculty_monthly.present_count + EXCLUDED.present_count",
+            nativeQuery = true)
+    int addClass(@Param("faculty") String facultyUsername,
+                 @Param("subject") String subject,
+                 @Param("date") LocalDate date,
+                 @Param("month") LocalDate month,
+                 @Param("usernames") Collection<String> usernames);
+
+    // Remove one deleted attendance record; the session goes too once its last record is gone
+    @Modifying
+    @Query(value = "UPDATE attendance_faculty_monthly SET " +
+            "total_records = total_records - 1, " +
+            "present_count = present_count - (CASE WHEN :present THEN 1 ELSE 0 END), " +
+            "sessions = sessions - (CASE WHEN EXISTS (SELECT 1 FROM attendance o " +
+            "WHERE o.faculty_username = :faculty AND o.subject = :subject AND o.date = :date) " +
+            "THEN 0 ELSE 1 END) " +
+            "WHERE faculty_username = :faculty AND subject = :subject AND month_start = :month",
+            nativeQuery = true)
+    int removeRecord(@Param("faculty") String facultyUsername,
+                     @Param("subject") String subject,
+                     @Param("date") LocalDate date,
+                     @Param("month") LocalDate month,
+                     @Param("present") boolean present);
+
+    // Block concurrent addClass/removeRecord until the rebuilding transaction commits;
+    // reads are not blocked
+    @Modifying
+    @Query(value = "LOCK TABLE attendance_faculty_monthly IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM attendance_faculty_monthly", nativeQuery = true)
+    int deleteAllRollups();
+
+    // Recompute every faculty month from the raw attendance rows
+    @Modifying
+    @Query(value = "INSERT INTO attendance_faculty_monthly " +
+            "(faculty_username, subject, month_start, sessions, total_records, present_count) " +
+            "SELECT a.faculty_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE), " +
+            "COUNT(DISTINCT a.date), COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "GROUP BY a.faculty_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE)",
+            nativeQuery = true)
+    int insertRollupsFromAttendance();
+}
@@ -0,0 +1,66 @@
+package com.project.attendanceservice.repository;
+
+import com.project.attendanceservice.DTO.AttendanceTotals;
+import com.project.attendanceservice.model.StudentAttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface StudentAttendanceSummaryRepository extends JpaRepository<StudentAttendanceSummary, Long> {
+
+    // Get summaries for a student, one per subject
+    List<StudentAttendanceSummary> findByStudentUsername(String username);
+
+    // Get lifetime totals for a student across subjects
+    @Query("SELECT COALESCE(SUM(s.totalClasses), 0) AS totalClasses, " +
+            "COALESCE(SUM(s.classesAttended), 0) AS classesAttended " +
+            "FROM StudentAttendanceSummary s WHERE s.studentUsername = :username")
+    AttendanceTotals getTotalsByStudentUsername(@Param("username") String username);
+
+    // Add the given students' attendance for one class to their counters
+    @Modifying
+    @Query(value = "INSERT INTO student_attendance_summary (student_username, subject, total_classes, classes_attended) " +
+            "SELECT a.student_username, a.subject, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "WHERE a.subject = :subject AND a.date = :date AND a.student_username IN (:usernames) " +
+            "GROUP BY a.student_username, a.subject " +
+            "ON CONFLICT (student_username, subject) DO UPDATE SET " +
+            "total_classes = student_attendance_summary.total_classes + EXCLUDED.total_classes, " +
+            "classes_attended = student_attendance_summary.classes_attended + EXCLUDED.classes_attended",
+            nativeQuery = true)
+    int addClass(@Param("subject") String subject,
+                 @Param("date") LocalDate date,
+                 @Param("usernames") Collection<String> usernames);
+
+    // Remove one attendance record from a student's counters
+    @Modifying
+    @Query("UPDATE StudentAttendanceSummary s SET s.totalClasses = s.totalClasses - 1, " +
+            "s.classesAttended = s.classesAttended - (CASE WHEN :present = true THEN 1 ELSE 0 END) " +
+            "WHERE s.studentUsername = :username AND s.subject = :subject")
+    int removeClass(@Param("username") String username,
+                    @Param("subject") String subject,
+                    @Param("present") boolean present);
+
+    // Block concurrent addClass/removeClass until the rebuilding transaction commits;
+    // reads are not blocked
+    @Modifying
+    @Query(value = "LOCK TABLE student_attendance_summary IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM student_attendance_summary", nativeQuery = true)
+    int deleteAllSummaries();
+
+    // Recompute every summary from the raw attendance rows
+    @Modifying
+    @Query(value = "INSERT INTO student_attendance_summary (student_username, subject, total_classes, classes_attended) " +
+            "SELECT a.student_username, a.subject, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a GROUP BY a.student_username, a.subject",
+            nativeQuery = true)
+    int insertSummariesFromAttendance();
+}
@@ -0,0 +1,72 @@
+package com.project.attendanceservice.repository;
+
+import com.project.attendanceservice.model.StudentMonthlyAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface StudentMonthlyAttendanceRepository extends JpaRepository<StudentMonthlyAttendance, Long> {
+
+    // Get a student's monthly counters in a month range, optionally for one subject
+    @Query("SELECT r FROM StudentMonthlyAttendance r " +
+            "WHERE r.studentUsername = :username AND r.monthStart BETWEEN :from AND :to " +
+            "AND (:subject IS NULL OR r.subject = :subject) " +
+            "ORDER BY r.monthStart, r.subject")
+    List<StudentMonthlyAttendance> findInRange(@Param("username") String studentUsername,
+                                               @Param("subject") String subject,
+                                               @Param("from") LocalDate fromMonth,
+                                               @Param("to") LocalDate toMonth);
+
+    // Add the given students' attendance for one class to their month's counters
+    @Modifying
+    @Query(value = "INSERT INTO attendance_student_monthly " +
+            "(student_username, subject, month_start, total_classes, classes_attended) " +
+            "SELECT a.student_username, a.subject, :month, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "WHERE a.subject = :subject AND a.date = :date AND a.student_username IN (:usernames) " +
+            "GROUP BY a.student_username, a.subject " +
+            "ON CONFLICT (student_username, subject, month_start) DO UPDATE SET " +
+            "total_classes = attendance_student_monthly.total_classes + EXCLUDED.total_classes, " +
+            "classes_attended = attendance_student_monthly.classes_attended + EXCLUDED.classes_attended",
+            nativeQuery = true)
+    int addClass(@Param("subject") String subject,
+                 @Param("date") LocalDate date,
+                 @Param("month") LocalDate month,
+                 @Param("usernames") Collection<String> usernames);
+
+    // Remove one attendance record from a student's month
+    @Modifying
+    @Query("UPDATE StudentMonthlyAttendance r SET r.totalClasses = r.totalClasses - 1, " +
+            "r.classesAttended = r.classesAttended - (CASE WHEN :present = true THEN 1 ELSE 0 END) " +
+            "WHERE r.studentUsername = :username AND r.subject = :subject AND r.monthStart = :month")
+    int removeRecord(@Param("username") String studentUsername,
+                     @Param("subject") String subject,
+                     @Param("month") LocalDate month,
+                     @Param("present") boolean present);
+
+    // Block concurrent addClass/removeRecord until the rebuilding transaction commits;
+    // reads are not blocked
+    @Modifying
+    @Query(value = "LOCK TABLE attendance_student_monthly IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM attendance_student_monthly", nativeQuery = true)
+    int deleteAllRollups();
+
+    // Recompute every student month from the raw attendance rows
+    @Modifying
+    @Query(value = "INSERT INTO attendance_student_monthly " +
+            "(student_username, subject, month_start, total_classes, classes_attended) " +
+            "SELECT a.student_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE), " +
+            "COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "GROUP BY a.student_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE)",
+            nativeQuery = true)
+    int insertRollupsFromAttendance();
+}
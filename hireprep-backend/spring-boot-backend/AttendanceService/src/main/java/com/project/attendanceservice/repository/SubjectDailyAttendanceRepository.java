@@ -0,0 +1,64 @@
+package com.project.attendanceservice.repository;
+
+import com.project.attendanceservice.model.SubjectDailyAttendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SubjectDailyAttendanceRepository extends JpaRepository<SubjectDailyAttendance, Long> {
+
+    // Get daily counters in a date range, optionally for one subject
+    @Query("SELECT r FROM SubjectDailyAttendance r " +
+            "WHERE r.date BETWEEN :from AND :to AND (:subject IS NULL OR r.subject = :subject) " +
+            "ORDER BY r.date, r.subject")
+    List<SubjectDailyAttendance> findInRange(@Param("subject") String subject,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    // Add the given students' attendance for one class to the day's counters
+    @Modifying
+    @Query(value = "INSERT INTO attendance_subject_daily (subject, date, total_records, present_count) " +
+            "SELECT a.subject, a.date, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a " +
+            "WHERE a.subject = :subject AND a.date = :date AND a.student_username IN (:usernames) " +
+            "GROUP BY a.subject, a.date " +
+            "ON CONFLICT (subject, date) DO UPDATE SET " +
+            "total_records = attendance_subject_daily.total_records + EXCLUDED.total_records, " +
+            "present_count = attendance_subject_daily.present_count + EXCLUDED.present_count",
+            nativeQuery = true)
+    int addClass(@Param("subject") String subject,
+                 @Param("date") LocalDate date,
+                 @Param("usernames") Collection<String> usernames);
+
+    // Remove one attendance record from the day's counters
+    @Modifying
+    @Query("UPDATE SubjectDailyAttendance r SET r.totalRecords = r.totalRecords - 1, " +
+            "r.presentCount = r.presentCount - (CASE WHEN :present = true THEN 1 ELSE 0 END) " +
+            "WHERE r.subject = :subject AND r.date = :date")
+    int removeRecord(@Param("subject") String subject,
+                     @Param("date") LocalDate date,
+                     @Param("present") boolean present);
+
+    // Block concurrent addClass/removeRecord until the rebuilding transaction commits;
+    // reads are not blocked
+    @Modifying
+    @Query(value = "LOCK TABLE attendance_subject_daily IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM attendance_subject_daily", nativeQuery = true)
+    int deleteAllRollups();
+
+    // Recompute every daily counter from the raw attendance rows
+    @Modifying
+    @Query(value = "INSERT INTO attendance_subject_daily (subject, date, total_records, present_count) " +
+            "SELECT a.subject, a.date, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END) " +
+            "FROM attendance a GROUP BY a.subject, a.date",
+            nativeQuery = true)
+    int insertRollupsFromAttendance();
+}
@@ -0,0 +1,184 @@
+package com.project.attendanceservice.service;
+
+import com.project.attendanceservice.DTO.FacultyMonthlyStatsDTO;
+import com.project.attendanceservice.DTO.StudentMonthlyStatsDTO;
+import com.project.attendanceservice.DTO.SubjectDailyStatsDTO;
+import com.project.attendanceservice.model.Attendance;
+import com.project.attendanceservice.model.FacultyMonthlyAttendance;
+import com.project.attendanceservice.model.StudentMonthlyAttendance;
+import com.project.attendanceservice.model.SubjectDailyAttendance;
+import com.project.attendanceservice.repository.FacultyMonthlyAttendanceRepository;
+import com.project.attendanceservice.repository.StudentMonthlyAttendanceRepository;
+import com.project.attendanceservice.repository.SubjectDailyAttendanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-(subject, day), per-(faculty, subject, month) and per-(student, subject, month)
+ * rollups so analytics reads never scan the attendance table.
+ * Writes join the caller's transaction; rebuildRollups recomputes everything from raw rows.
+ */
+@Service
+@Slf4j
+public class AttendanceRollupService {
+
+    // Default window for analytics reads that do not pass a start date
+    private static final int DEFAULT_RANGE_MONTHS = 12;
+
+    @Autowired
+    private SubjectDailyAttendanceRepository subjectDailyRepository;
+
+    @Autowired
+    private FacultyMonthlyAttendanceRepository facultyMonthlyRepository;
+
+    @Autowired
+    private StudentMonthlyAttendanceRepository studentMonthlyRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordClass(String facultyUsername, String subject, LocalDate date,
+                            Collection<String> studentUsernames) {
+        if (studentUsernames.isEmpty()) {
+            return;
+        }
+        // Two marks for different students of the same session running concurrently would each
+        // miss the other's uncommitted rows and both count the session. The lock is held to
+        // commit, so the second waits and its session check then sees the first one's rows.
+        facultyMonthlyRepository.lockSession(facultyUsername, subject, date);
+        LocalDate month = date.withDayOfMonth(1);
+        subjectDailyRepository.addClass(subject, date, studentUsernames);
+        facultyMonthlyRepository.addClass(facultyUsername, subject, date, month, studentUsernames);
+        studentMonthlyRepository.addClass(subject, date, month, studentUsernames);
+    }
+
+    // Must run after the attendance row is deleted so the faculty session check sees it gone
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRecord(Attendance attendance) {
+        // Same race in reverse: deleting a session's last two records concurrently would leave it counted
+        facultyMonthlyRepository.lockSession(attendance.getFacultyUsername(), attendance.getSubject(),
+                attendance.getDate());
+        LocalDate month = attendance.getDate().withDayOfMonth(1);
+        boolean present = Boolean.TRUE.equals(attendance.getPresent());
+        subjectDailyRepository.removeRecord(attendance.getSubject(), attendance.getDate(), present);
+        facultyMonthlyRepository.removeRecord(attendance.getFacultyUsername(), attendance.getSubject(),
+                attendance.getDate(), month, present);
+        studentMonthlyRepository.removeRecord(attendance.getStudentUsername(), attendance.getSubject(),
+                month, present);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SubjectDailyStatsDTO> getSubjectDailyStats(String subject, LocalDate from, LocalDate to) {
+        LocalDate end = rangeEnd(to);
+        LocalDate start = rangeStart(from, end);
+        return subjectDailyRepository.findInRange(blankToNull(subject), start, end).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<FacultyMonthlyStatsDTO> getFacultyMonthlyStats(String facultyUsername, String subject,
+                                                               LocalDate from, LocalDate to) {
+        LocalDate end = rangeEnd(to);
+        LocalDate start = rangeStart(from, end);
+        // Monthly rows match every month overlapping [start, end]
+        return facultyMonthlyRepository.findInRange(
+                        facultyUsername, blankToNull(subject), start.withDayOfMonth(1), end.withDayOfMonth(1)).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudentMonthlyStatsDTO> getStudentMonthlyStats(String studentUsername, String subject,
+                                                               LocalDate from, LocalDate to) {
+        LocalDate end = rangeEnd(to);
+        LocalDate start = rangeStart(from, end);
+        // Monthly rows match every month overlapping [start, end]
+        return studentMonthlyRepository.findInRange(
+                        studentUsername, blankToNull(subject), start.withDayOfMonth(1), end.withDayOfMonth(1)).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(cron = "${attendance.rollup.rebuild-cron:0 30 3 * * *}")
+    @Transactional
+    public int rebuildRollups() {
+        // Same reason as the summary rebuild: a class recorded between the deletes and the
+        // inserts could be recreated first and then collide with (or be counted again by) the
+        // inserts. Locked in the order recordClass and removeRecord write, so they queue
+        // behind the rebuild instead of deadlocking with it.
+        subjectDailyRepository.lockForRebuild();
+        facultyMonthlyRepository.lockForRebuild();
+        studentMonthlyRepository.lockForRebuild();
+        subjectDailyRepository.deleteAllRollups();
+        facultyMonthlyRepository.deleteAllRollups();
+        studentMonthlyRepository.deleteAllRollups();
+        int rows = subjectDailyRepository.insertRollupsFromAttendance()
+                + facultyMonthlyRepository.insertRollupsFromAttendance()
+                + studentMonthlyRepository.insertRollupsFromAttendance();
+        log.info("Rebuilt {} attendance rollup rows", rows);
+        return rows;
+    }
+
+    private LocalDate rangeEnd(LocalDate to) {
+        return to != null ? to : LocalDate.now();
+    }
+
+    private LocalDate rangeStart(LocalDate from, LocalDate end) {
+        LocalDate start = from != null ? from : end.minusMonths(DEFAULT_RANGE_MONTHS);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        return start;
+    }
+
+    private String blankToNull(String subject) {
+        return subject == null || subject.isBlank() ? null : subject;
+    }
+
+    private static Double percentage(long part, long total) {
+        return total > 0 ? (part * 100.0) / total : 0.0;
+    }
+
+    private SubjectDailyStatsDTO toDTO(SubjectDailyAttendance rollup) {
+        SubjectDailyStatsDTO dto = new SubjectDailyStatsDTO();
+        dto.setSubject(rollup.getSubject());
+        dto.setDate(rollup.getDate());
+        dto.setTotalRecords(rollup.getTotalRecords());
+        dto.setPresentCount(rollup.getPresentCount());
+        dto.setAttendancePercentage(percentage(rollup.getPresentCount(), rollup.getTotalRecords()));
+        return dto;
+    }
+
+    private FacultyMonthlyStatsDTO toDTO(FacultyMonthlyAttendance rollup) {
+        FacultyMonthlyStatsDTO dto = new FacultyMonthlyStatsDTO();
+        dto.setFacultyUsername(rollup.getFacultyUsername());
+        dto.setSubject(rollup.getSubject());
+        dto.setMonth(YearMonth.from(rollup.getMonthStart()).toString());
+        dto.setSessions(rollup.getSessions());
+        dto.setTotalRecords(rollup.getTotalRecords());
+        dto.setPresentCount(rollup.getPresentCount());
+        dto.setAttendancePercentage(percentage(rollup.getPresentCount(), rollup.getTotalRecords()));
+        return dto;
+    }
+
+    private StudentMonthlyStatsDTO toDTO(StudentMonthlyAttendance rollup) {
+        StudentMonthlyStatsDTO dto = new StudentMonthlyStatsDTO();
+        dto.setStudentUsername(rollup.getStudentUsername());
+        dto.setSubject(rollup.getSubject());
+        dto.setMonth(YearMonth.from(rollup.getMonthStart()).toString());
+        dto.setTotalClasses(rollup.getTotalClasses());
+        dto.setClassesAttended(rollup.getClassesAttended());
+        dto.setClassesMissed(rollup.getTotalClasses() - rollup.getClassesAttended());
+        dto.setAttendancePercentage(percentage(rollup.getClassesAttended(), rollup.getTotalClasses()));
+        return dto;
+    }
+}
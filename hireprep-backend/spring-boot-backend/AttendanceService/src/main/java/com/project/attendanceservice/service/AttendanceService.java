@@ -1,26 +1,48 @@
 package com.project.attendanceservice.service;
 
+import com.project.attendanceservice.DTO.AttendancePageDTO;
 import com.project.attendanceservice.DTO.AttendanceRequestDTO;
 import com.project.attendanceservice.DTO.AttendanceResponseDTO;
 import com.project.attendanceservice.DTO.AttendanceStatsDTO;
+import com.project.attendanceservice.DTO.AttendanceTotals;
 import com.project.attendanceservice.DTO.UserProfileDTO;
 import com.project.attendanceservice.client.ProfileServiceClient;
 import com.project.attendanceservice.mapper.AttendanceMapper;
 import com.project.attendanceservice.model.Attendance;
 import com.project.attendanceservice.repository.AttendanceRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class AttendanceService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // Keyset order for paginated reads; the cursor encodes the last (date, id) returned
+    private static final Sort PAGE_SORT = Sort.by(Sort.Direction.DESC, "date", "id");
+
     @Autowired
     private AttendanceRepository attendanceRepository;
 
@@ -30,31 +52,60 @@ public class AttendanceService {
     @Autowired
     private AttendanceMapper mapper;
 
+    @Autowired
+    private AttendanceSummaryService summaryService;
+
+    @Autowired
+    private AttendanceRollupService rollupService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Transactional
     public List<AttendanceResponseDTO> markAttendance(AttendanceRequestDTO request) {
-        // Verify faculty exists and has FACULTY role
-        log.info("Verifying faculty: {}", request.getFacultyUsername());
-        UserProfileDTO faculty = profileServiceClient.getUserProfile(request.getFacultyUsername());
+        List<String> studentUsernames = request.getStudents().stream()
+                .map(AttendanceRequestDTO.StudentAttendanceDTO::getUsername)
+                .collect(Collectors.toList());
 
+        Set<String> seen = new HashSet<>();
+        for (String username : studentUsernames) {
+            if (!seen.add(username)) {
+                throw new IllegalArgumentException("Duplicate entry for " + username + " in attendance request");
+            }
+        }
+
+        // Check if attendance already exists for any student in one query
+        List<String> alreadyMarked = attendanceRepository.findMarkedStudentUsernames(
+                studentUsernames, request.getSubject(), request.getDate());
+        if (!alreadyMarked.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Attendance already marked for " + alreadyMarked.get(0) +
+                            " on " + request.getDate() + " for " + request.getSubject());
+        }
+
+        // Resolve faculty and the whole roster with a single Profile Service call
+        log.info("Verifying faculty {} and {} students", request.getFacultyUsername(), studentUsernames.size());
+        List<String> usernames = new ArrayList<>(studentUsernames);
+        usernames.add(request.getFacultyUsername());
+        Map<String, UserProfileDTO> profiles = profileServiceClient.getUserProfiles(usernames);
+
+        // Verify faculty exists and has FACULTY role
+        UserProfileDTO faculty = profiles.get(request.getFacultyUsername());
+        if (faculty == null) {
+            throw new RuntimeException("User not found: " + request.getFacultyUsername());
+        }
         if (!"FACULTY".equalsIgnoreCase(faculty.getRole())) {
             throw new IllegalArgumentException("User is not a faculty member");
         }
 
-        List<AttendanceResponseDTO> responses = new ArrayList<>();
+        List<Attendance> records = new ArrayList<>();
 
         for (AttendanceRequestDTO.StudentAttendanceDTO studentDto : request.getStudents()) {
-            // Check if attendance already exists
-            if (attendanceRepository.existsByStudentUsernameAndSubjectAndDate(
-                    studentDto.getUsername(), request.getSubject(), request.getDate())) {
-                throw new IllegalArgumentException(
-                        "Attendance already marked for " + studentDto.getUsername() +
-                                " on " + request.getDate() + " for " + request.getSubject());
-            }
-
             // Verify student exists and has STUDENT role
-            log.info("Verifying student: {}", studentDto.getUsername());
-            UserProfileDTO student = profileServiceClient.getUserProfile(studentDto.getUsername());
-
+            UserProfileDTO student = profiles.get(studentDto.getUsername());
+            if (student == null) {
+                throw new RuntimeException("User not found: " + studentDto.getUsername());
+            }
             if (!"STUDENT".equalsIgnoreCase(student.getRole())) {
                 throw new IllegalArgumentException(studentDto.getUsername() + " is not a student");
             }
@@ -69,21 +120,27 @@ public class AttendanceService {
             attendance.setDate(request.getDate());
             attendance.setPresent(studentDto.getPresent());
             attendance.setRemarks(studentDto.getRemarks());
+            records.add(attendance);
+        }
 
-            Attendance saved = attendanceRepository.save(attendance);
-            responses.add(mapper.toDTO(saved));
+        // The unique (student, subject, date) index catches requests racing past the check above
+        List<Attendance> saved;
+        try {
+            saved = attendanceRepository.saveAllAndFlush(records);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(
+                    "Attendance already marked on " + request.getDate() + " for " + request.getSubject());
         }
+        summaryService.recordClass(request.getSubject(), request.getDate(), studentUsernames);
+        rollupService.recordClass(faculty.getUsername(), request.getSubject(), request.getDate(), studentUsernames);
 
-        return responses;
+        return saved.stream()
+                .map(mapper::toDTO)
+                .collect(Collectors.toList());
     }
 
     public List<AttendanceResponseDTO> getStudentAttendance(String username) {
-        // Verify student exists
-        UserProfileDTO student = profileServiceClient.getUserProfile(username);
-
-        if (!"STUDENT".equalsIgnoreCase(student.getRole())) {
-            throw new IllegalArgumentException("User is not a student");
-        }
+        verifyStudent(username);
 
         return attendanceRepository.findByStudentUsername(username).stream()
                 .map(mapper::toDTO)
@@ -98,8 +155,9 @@ public class AttendanceService {
             throw new IllegalArgumentException("User is not a student");
         }
 
-        Long total = attendanceRepository.countByStudentUsername(username);
-        Long present = attendanceRepository.countPresentByStudentUsername(username);
+        AttendanceTotals totals = summaryService.getTotals(username);
+        Long total = totals.getTotalClasses();
+        Long present = totals.getClassesAttended();
         Long absent = total - present;
 
         AttendanceStatsDTO stats = new AttendanceStatsDTO();
@@ -119,12 +177,7 @@ public class AttendanceService {
     }
 
     public List<AttendanceResponseDTO> getFacultyAttendanceRecords(String facultyUsername) {
-        // Verify faculty exists
-        UserProfileDTO faculty = profileServiceClient.getUserProfile(facultyUsername);
-
-        if (!"FACULTY".equalsIgnoreCase(faculty.getRole())) {
-            throw new IllegalArgumentException("User is not a faculty member");
-        }
+        verifyFaculty(facultyUsername);
 
         return attendanceRepository.findByFacultyUsername(facultyUsername).stream()
                 .map(mapper::toDTO)
@@ -137,9 +190,56 @@ public class AttendanceService {
                 .collect(Collectors.toList());
     }
 
+    public AttendancePageDTO getStudentAttendancePage(String username, String cursor, Integer size) {
+        verifyStudent(username);
+        return toPage(attendanceRepository.findByStudentUsername(
+                username, parseCursor(cursor), PAGE_SORT, pageLimit(size)));
+    }
+
+    public AttendancePageDTO getFacultyAttendancePage(String facultyUsername, String cursor, Integer size) {
+        verifyFaculty(facultyUsername);
+        return toPage(attendanceRepository.findByFacultyUsername(
+                facultyUsername, parseCursor(cursor), PAGE_SORT, pageLimit(size)));
+    }
+
+    public AttendancePageDTO getSubjectAttendancePage(String subject, String cursor, Integer size) {
+        return toPage(attendanceRepository.findBySubject(
+                subject, parseCursor(cursor), PAGE_SORT, pageLimit(size)));
+    }
+
+    public AttendancePageDTO getDateAttendancePage(LocalDate date, String cursor, Integer size) {
+        return toPage(attendanceRepository.findByDate(
+                date, parseCursor(cursor), PAGE_SORT, pageLimit(size)));
+    }
+
+    // Streaming reads write straight to the sink; callers verify the user before the response starts
+    @Transactional(readOnly = true)
+    public void streamStudentAttendance(String username, Consumer<AttendanceResponseDTO> sink) {
+        streamTo(attendanceRepository.streamByStudentUsername(username), sink);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFacultyAttendance(String facultyUsername, Consumer<AttendanceResponseDTO> sink) {
+        streamTo(attendanceRepository.streamByFacultyUsername(facultyUsername), sink);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamSubjectAttendance(String subject, Consumer<AttendanceResponseDTO> sink) {
+        streamTo(attendanceRepository.streamBySubject(subject), sink);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamDateAttendance(LocalDate date, Consumer<AttendanceResponseDTO> sink) {
+        streamTo(attendanceRepository.streamByDate(date), sink);
+    }
+
     @Transactional
     public void deleteAttendance(Long id) {
-        attendanceRepository.deleteById(id);
+        attendanceRepository.findById(id).ifPresent(attendance -> {
+            attendanceRepository.delete(attendance);
+            summaryService.removeRecord(attendance);
+            rollupService.removeRecord(attendance);
+        });
     }
 
     public List<String> getAllSubjects() {
@@ -156,4 +256,71 @@ public class AttendanceService {
                 "Web Development"
         );
     }
+
+    public void verifyStudent(String username) {
+        UserProfileDTO student = profileServiceClient.getUserProfile(username);
+
+        if (!"STUDENT".equalsIgnoreCase(student.getRole())) {
+            throw new IllegalArgumentException("User is not a student");
+        }
+    }
+
+    public void verifyFaculty(String username) {
+        UserProfileDTO faculty = profileServiceClient.getUserProfile(username);
+
+        if (!"FACULTY".equalsIgnoreCase(faculty.getRole())) {
+            throw new IllegalArgumentException("User is not a faculty member");
+        }
+    }
+
+    // Detach each row once written so the persistence context stays bounded
+    private void streamTo(Stream<Attendance> records, Consumer<AttendanceResponseDTO> sink) {
+        try (records) {
+            records.forEach(attendance -> {
+                sink.accept(mapper.toDTO(attendance));
+                entityManager.detach(attendance);
+            });
+        }
+    }
+
+    private Limit pageLimit(Integer size) {
+        if (size == null) {
+            return Limit.of(DEFAULT_PAGE_SIZE);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return Limit.of(size);
+    }
+
+    // Cursor format: <date>_<id> of the last record on the previous page
+    private KeysetScrollPosition parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts = cursor.split("_");
+        try {
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return ScrollPosition.forward(Map.of(
+                    "date", LocalDate.parse(parts[0]),
+                    "id", Long.parseLong(parts[1])));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private AttendancePageDTO toPage(Window<Attendance> window) {
+        List<AttendanceResponseDTO> records = window.stream()
+                .map(mapper::toDTO)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            Attendance last = window.getContent().get(window.size() - 1);
+            nextCursor = last.getDate() + "_" + last.getId();
+        }
+        return new AttendancePageDTO(records, nextCursor);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.project.attendanceservice.service;
+
+import com.project.attendanceservice.DTO.AttendanceTotals;
+import com.project.attendanceservice.model.Attendance;
+import com.project.attendanceservice.repository.StudentAttendanceSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Maintains student_attendance_summary so stats reads do not scan the attendance table.
+ * Writes join the caller's transaction; rebuildSummaries recomputes everything from raw rows.
+ */
+@Service
+@Slf4j
+public class AttendanceSummaryService {
+
+    @Autowired
+    private StudentAttendanceSummaryRepository summaryRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordClass(String subject, LocalDate date, Collection<String> studentUsernames) {
+        if (!studentUsernames.isEmpty()) {
+            summaryRepository.addClass(subject, date, studentUsernames);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRecord(Attendance attendance) {
+        summaryRepository.removeClass(
+                attendance.getStudentUsername(),
+                attendance.getSubject(),
+                Boolean.TRUE.equals(attendance.getPresent()));
+    }
+
+    @Transactional(readOnly = true)
+    public AttendanceTotals getTotals(String studentUsername) {
+        return summaryRepository.getTotalsByStudentUsername(studentUsername);
+    }
+
+    @Scheduled(cron = "${attendance.summary.rebuild-cron:0 0 3 * * *}")
+    @Transactional
+    public int rebuildSummaries() {
+        // Without the lock a class recorded between the delete and the insert could be
+        // recreated first and then collide with (or be counted again by) the insert
+        summaryRepository.lockForRebuild();
+        summaryRepository.deleteAllSummaries();
+        int rows = summaryRepository.insertSummariesFromAttendance();
+        log.info("Rebuilt {} attendance summaries", rows);
+        return rows;
+    }
+}
@@ -0,0 +1,41 @@
+-- Attendance records. Ids come from a pooled sequence so inserts can be batched.
+CREATE SEQUENCE IF NOT EXISTS attendance_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS attendance (
+    id               BIGINT       NOT NULL PRIMARY KEY,
+    student_username VARCHAR(255) NOT NULL,
+    student_name     VARCHAR(255),
+    faculty_username VARCHAR(255) NOT NULL,
+    faculty_name     VARCHAR(255),
+    subject          VARCHAR(255) NOT NULL,
+    date             DATE         NOT NULL,
+    present          BOOLEAN      NOT NULL,
+    remarks          VARCHAR(255)
+);
+
+-- One record per student, subject and day; also serves the duplicate check in markAttendance
+-- and findByStudentUsernameAndSubject
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_student_subject_date
+    ON attendance (student_username, subject, date);
+
+-- Keyset pages and streams are ordered by (date, id) descending within each filter
+CREATE INDEX IF NOT EXISTS idx_attendance_student_date
+    ON attendance (student_username, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attendance_faculty_date
+    ON attendance (faculty_username, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attendance_subject_date
+    ON attendance (subject, date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attendance_date
+    ON attendance (date, id DESC);
+
+-- Per-student, per-subject counters read by the stats endpoint
+CREATE TABLE IF NOT EXISTS student_attendance_summary (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_username VARCHAR(255) NOT NULL,
+    subject          VARCHAR(255) NOT NULL,
+    total_classes    BIGINT       NOT NULL,
+    classes_attended BIGINT       NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_student_attendance_summary_student_subject
+    ON student_attendance_summary (student_username, subject);
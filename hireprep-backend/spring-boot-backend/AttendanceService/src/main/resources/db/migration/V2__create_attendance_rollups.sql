@@ -0,0 +1,69 @@
+-- Analytics rollups, maintained alongside attendance writes by AttendanceRollupService.
+-- Months are stored as the first day of the month.
+
+-- Records and presences per subject and day
+CREATE TABLE IF NOT EXISTS attendance_subject_daily (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    subject       VARCHAR(255) NOT NULL,
+    date          DATE         NOT NULL,
+    total_records BIGINT       NOT NULL,
+    present_count BIGINT       NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_subject_daily_subject_date
+    ON attendance_subject_daily (subject, date);
+CREATE INDEX IF NOT EXISTS idx_attendance_subject_daily_date
+    ON attendance_subject_daily (date);
+
+-- Sessions held (distinct class days), records and presences per faculty, subject and month
+CREATE TABLE IF NOT EXISTS attendance_faculty_monthly (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    faculty_username VARCHAR(255) NOT NULL,
+    subject          VARCHAR(255) NOT NULL,
+    month_start      DATE         NOT NULL,
+    sessions         BIGINT       NOT NULL,
+    total_records    BIGINT       NOT NULL,
+    present_count    BIGINT       NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_faculty_monthly_faculty_subject_month
+    ON attendance_faculty_monthly (faculty_username, subject, month_start);
+CREATE INDEX IF NOT EXISTS idx_attendance_faculty_monthly_faculty_month
+    ON attendance_faculty_monthly (faculty_username, month_start);
+
+-- Classes held and attended per student, subject and month
+CREATE TABLE IF NOT EXISTS attendance_student_monthly (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    student_username VARCHAR(255) NOT NULL,
+    subject          VARCHAR(255) NOT NULL,
+    month_start      DATE         NOT NULL,
+    total_classes    BIGINT       NOT NULL,
+    classes_attended BIGINT       NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_attendance_student_monthly_student_subject_month
+    ON attendance_student_monthly (student_username, subject, month_start);
+CREATE INDEX IF NOT EXISTS idx_attendance_student_monthly_student_month
+    ON attendance_student_monthly (student_username, month_start);
+
+-- Sessions are counted once per (faculty, subject, date); this serves the "other rows left?" checks
+CREATE INDEX IF NOT EXISTS idx_attendance_faculty_subject_date
+    ON attendance (faculty_username, subject, date);
+
+-- Seed the rollups from existing attendance
+INSERT INTO attendance_subject_daily (subject, date, total_records, present_count)
+SELECT a.subject, a.date, COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END)
+FROM attendance a
+GROUP BY a.subject, a.date;
+
+INSERT INTO attendance_faculty_monthly (faculty_username, subject, month_start, sessions, total_records, present_count)
+SELECT a.faculty_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE),
+       COUNT(DISTINCT a.date), COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END)
+FROM attendance a
+GROUP BY a.faculty_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE);
+
+INSERT INTO attendance_student_monthly (student_username, subject, month_start, total_classes, classes_attended)
+SELECT a.student_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE),
+       COUNT(*), SUM(CASE WHEN a.present THEN 1 ELSE 0 END)
+FROM attendance a
+GROUP BY a.student_username, a.subject, CAST(DATE_TRUNC('month', a.date) AS DATE);
@@ -4,7 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
-class AttendanceServiceApplicationTests {
+class AttendanceServiceApplicationTests extends PostgresIntegrationTest {
 
     @Test
     void contextLoads() {
@@ -0,0 +1,183 @@
+package com.project.attendanceservice;
+
+import com.project.attendanceservice.service.AttendanceSummaryService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * About 2k concurrent users, each reading their attendance stats a few times over HTTP. Each
+ * user's first request misses the profile cache and goes to a local Profile Service stub that
+ * answers after a network-like delay; totals come from the embedded PostgreSQL. Subclasses run
+ * the same load with spring.threads.virtual.enabled off and on.
+ */
+public abstract class ConcurrentUsersBenchmark extends PostgresIntegrationTest {
+
+    protected static final int USERS = 2_000;
+    private static final int REQUESTS_PER_USER = 5;
+    private static final int RECORDS_PER_USER = 20;
+    private static final int WARMUP_USERS = 200;
+    private static final Duration PROFILE_LATENCY = Duration.ofMillis(20);
+
+    private static final HttpServer PROFILE_SERVICE = startProfileService();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceSummaryService summaryService;
+
+    @DynamicPropertySource
+    static void loadProperties(DynamicPropertyRegistry registry) {
+        registry.add("profile.service.url", () -> "http://127.0.0.1:" + PROFILE_SERVICE.getAddress().getPort());
+        // The whole burst of connects fits the accept backlog
+        registry.add("server.tomcat.accept-count", () -> USERS);
+        // Per-request INFO lines would cost more CPU than the requests themselves
+        registry.add("logging.level.com.project.attendanceservice", () -> "WARN");
+        // The load generator shares the machine, so slow Profile calls here measure the test host:
+        // cold-cache misses queue at the bulkhead and breaker instead of falling back to last
+        // known profiles, which would take the Profile Service path out of the run
+        registry.add("profile.service.bulkhead.max-wait-duration", () -> "60s");
+        registry.add("profile.service.circuit-breaker.slow-call-duration-threshold", () -> "60s");
+    }
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE attendance, student_attendance_summary");
+        jdbcTemplate.update("""
+                INSERT INTO attendance (id, student_username, student_name, faculty_username, faculty_name,
+                                        subject, date, present, remarks)
+                SELECT i + 1, 'student' || (i % ?), 'Student', 'faculty1', 'Faculty', 'Subject',
+                       DATE '2024-01-01' + i / ?, i % 5 <> 0, NULL
+                FROM generate_series(0, ? - 1) AS i
+                """, USERS, USERS, USERS * RECORDS_PER_USER);
+        summaryService.rebuildSummaries();
+        jdbcTemplate.execute("VACUUM ANALYZE student_attendance_summary");
+    }
+
+    protected record Result(int requests, int failures, double seconds, long[] nanos) {
+
+        double throughput() {
+            return requests / seconds;
+        }
+
+        double percentileMillis(int percentile) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e6;
+        }
+    }
+
+    protected Result runLoad(String mode) throws Exception {
+        // Warm-up users are not seeded, so they leave the measured users' profiles uncached
+        load("warmup", WARMUP_USERS);
+        Result result = load("student", USERS);
+
+        System.out.printf("%n%s: %d users x %d requests   req/s   p50 ms   p99 ms   failures%n",
+                mode, USERS, REQUESTS_PER_USER);
+        System.out.printf("%45s %7.0f %8.1f %8.1f %10d%n", "",
+                result.throughput(), result.percentileMillis(50), result.percentileMillis(99), result.failures());
+
+        assertThat(result.failures()).isZero();
+        return result;
+    }
+
+    private Result load(String usernamePrefix, int users) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        long[] nanos = new long[users * REQUESTS_PER_USER];
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        long start;
+        try (ExecutorService userThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int u = 0; u < users; u++) {
+                int user = u;
+                futures.add(userThreads.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                    "http://127.0.0.1:" + port + "/api/attendance/student/" + usernamePrefix + user + "/stats"))
+                            .timeout(Duration.ofSeconds(60))
+                            .build();
+                    go.await();
+                    for (int r = 0; r < REQUESTS_PER_USER; r++) {
+                        long requestStart = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        nanos[user * REQUESTS_PER_USER + r] = System.nanoTime() - requestStart;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start = System.nanoTime();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(nanos.length, failures.get(), seconds, nanos);
+    }
+
+    private static HttpServer startProfileService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/api/profile/", ConcurrentUsersBenchmark::serveProfile);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start Profile Service stub", e);
+        }
+    }
+
+    private static void serveProfile(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(PROFILE_LATENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String username = exchange.getRequestURI().getPath().substring("/api/profile/".length());
+        byte[] body = ("{\"id\":1,\"username\":\"" + username + "\",\"email\":\"" + username
+                + "@example.com\",\"firstName\":\"Load\",\"lastName\":\"Student\",\"role\":\"STUDENT\","
+                + "\"phoneNumber\":\"9999999999\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.attendanceservice;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * ConcurrentUsersBenchmark on Tomcat's platform thread pool (the default mode).
+ * Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false")
+@Tag("benchmark")
+class PlatformThreadsLoadBenchmarkTest extends ConcurrentUsersBenchmark {
+
+    @Test
+    void twoThousandConcurrentUsers() throws Exception {
+        runLoad("platform threads");
+    }
+}
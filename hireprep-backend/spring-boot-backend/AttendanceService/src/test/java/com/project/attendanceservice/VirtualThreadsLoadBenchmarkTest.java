@@ -0,0 +1,40 @@
+package com.project.attendanceservice;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConcurrentUsersBenchmark with spring.threads.virtual.enabled=true. No virtual thread may pin
+ * its carrier longer than the production threshold while serving the load.
+ * Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+@Tag("benchmark")
+class VirtualThreadsLoadBenchmarkTest extends ConcurrentUsersBenchmark {
+
+    // JFR streams events in one-second chunks; wait for the last one to be delivered
+    private static final Duration JFR_FLUSH = Duration.ofSeconds(3);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void twoThousandConcurrentUsersWithoutPinning() throws Exception {
+        runLoad("virtual threads");
+        Thread.sleep(JFR_FLUSH);
+
+        Counter pinned = meterRegistry.find("jvm.threads.virtual.pinned").counter();
+        assertThat(pinned).as("VirtualThreadPinningMonitor active").isNotNull();
+        System.out.printf("jvm.threads.virtual.pinned: %.0f%n", pinned.count());
+        assertThat(pinned.count()).isZero();
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.attendanceservice.client;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.attendanceservice.DTO.UserProfileDTO;
+import com.project.attendanceservice.config.HttpClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent profile lookups through ProfileServiceClient against a local Profile Service stub,
+ * once over the pooled keep-alive client from HttpClientConfig and once over a plain
+ * SimpleClientHttpRequestFactory. The stub records the client port of every request, so the
+ * distinct ports are the TCP connections each client opened. Every lookup is a cache miss.
+ * Latency is reported, not asserted: over loopback a new connection costs little, and the
+ * saving grows with network round trips (and TLS) to a real Profile Service.
+ * Run with mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class ProfileServiceClientPoolBenchmarkTest {
+
+    // The bulkhead's default: Profile Service never sees more concurrent calls than this
+    private static final int THREADS = 20;
+    private static final int LOOKUPS_PER_THREAD = 1_000;
+    private static final int WARMUP_LOOKUPS_PER_THREAD = 200;
+    private static final int MAX_TOTAL = 100;
+    private static final int MAX_PER_ROUTE = 20;
+
+    static {
+        // Otherwise the stub's separate header and body writes wait on delayed ACKs (~40 ms each)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        // Without a Spring context logback logs everything at DEBUG, which would dominate the timings
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+
+    private HttpServer profileService;
+    private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private String profileServiceUrl;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        profileService = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        profileService.createContext("/api/profile/", this::serveProfile);
+        profileService.setExecutor(Executors.newFixedThreadPool(THREADS * 2));
+        profileService.start();
+        profileServiceUrl = "http://127.0.0.1:" + profileService.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopStub() {
+        profileService.stop(0);
+        ((ExecutorService) profileService.getExecutor()).shutdownNow();
+    }
+
+    @Test
+    void pooledClientReusesConnectionsUnderConcurrentLookups() throws Exception {
+        HttpClientConfig config = new HttpClientConfig();
+        PoolingHttpClientConnectionManager connectionManager = config.interServiceConnectionManager(
+                MAX_TOTAL, MAX_PER_ROUTE, Duration.ofSeconds(2), Duration.ofSeconds(5), new SimpleMeterRegistry());
+        try (CloseableHttpClient httpClient = config.interServiceHttpClient(
+                connectionManager, Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofSeconds(1))) {
+
+            RestTemplate simple = new RestTemplate(new SimpleClientHttpRequestFactory());
+            RestTemplate pooled = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+            run(simple, "warmup-simple", WARMUP_LOOKUPS_PER_THREAD);
+            run(pooled, "warmup-pooled", WARMUP_LOOKUPS_PER_THREAD);
+
+            connections.clear();
+            long[] simpleNanos = run(simple, "simple", LOOKUPS_PER_THREAD);
+            int simpleConnections = connections.size();
+
+            connections.clear();
+            long[] pooledNanos = run(pooled, "pooled", LOOKUPS_PER_THREAD);
+            int pooledConnections = connections.size();
+            PoolStats pool = connectionManager.getTotalStats();
+
+            System.out.printf("%n%d lookups, %d threads   connections   mean ms   p50 ms   p99 ms%n",
+                    THREADS * LOOKUPS_PER_THREAD, THREADS);
+            report("simple (no pool)", simpleConnections, simpleNanos);
+            report("pooled keep-alive", pooledConnections, pooledNanos);
+            System.out.printf("pool after run: leased %d, available %d, pending %d, max %d%n",
+                    pool.getLeased(), pool.getAvailable(), pool.getPending(), pool.getMax());
+
+            // Every request went over one of at most max-per-route connections, all back in the pool
+            assertThat(pooledConnections).isBetween(1, MAX_PER_ROUTE);
+            assertThat(pool.getLeased()).isZero();
+            assertThat(pool.getPending()).isZero();
+            assertThat(pool.getAvailable()).isEqualTo(pooledConnections);
+            assertThat(simpleConnections).isGreaterThan(pooledConnections);
+        } finally {
+            connectionManager.close();
+        }
+    }
+
+    private void serveProfile(HttpExchange exchange) throws IOException {
+        connections.add(exchange.getRemoteAddress());
+        String username = exchange.getRequestURI().getPath().substring("/api/profile/".length());
+        byte[] body = ("{\"id\":1,\"username\":\"" + username + "\",\"email\":\"" + username
+                + "@example.com\",\"firstName\":\"Bench\",\"lastName\":\"Student\",\"role\":\"STUDENT\","
+                + "\"phoneNumber\":\"9999999999\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // Latency of each lookup; usernames are unique per run so every lookup goes to the stub
+    private long[] run(RestTemplate restTemplate, String run, int lookupsPerThread) throws Exception {
+        ExecutorService loadExecutor = Executors.newFixedThreadPool(THREADS);
+        ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+        try {
+            ProfileServiceClient client = new ProfileServiceClient(
+                    restTemplate,
+                    profileServiceUrl,
+                    Caffeine.newBuilder().executor(loadExecutor).<String, UserProfileDTO>buildAsync(),
+                    CircuitBreaker.ofDefaults("profileService"),
+                    Bulkhead.of("profileService", BulkheadConfig.custom().maxConcurrentCalls(THREADS).build()),
+                    null);
+
+            long[] nanos = new long[THREADS * lookupsPerThread];
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * lookupsPerThread;
+                futures.add(callers.submit(() -> {
+                    go.await();
+                    for (int i = 0; i < lookupsPerThread; i++) {
+                        String username = run + "-student" + (offset + i);
+                        long start = System.nanoTime();
+                        UserProfileDTO profile = client.getUserProfile(username);
+                        nanos[offset + i] = System.nanoTime() - start;
+                        assertThat(profile.getUsername()).isEqualTo(username);
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return nanos;
+        } finally {
+            callers.shutdown();
+            loadExecutor.shutdown();
+        }
+    }
+
+    private static void report(String client, int connections, long[] nanos) {
+        System.out.printf("%-30s %11d %9.3f %8.3f %8.3f%n", client, connections,
+                Arrays.stream(nanos).average().orElseThrow() / 1e6,
+                percentile(nanos, 50) / 1e6, percentile(nanos, 99) / 1e6);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,179 @@
+package com.project.attendanceservice.repository;
+
+import com.project.attendanceservice.PostgresIntegrationTest;
+import com.project.attendanceservice.service.AttendanceSummaryService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Shows how the hot attendance reads scale with table size. The table is reseeded at each
+ * row count with the same shape (200 records per student, 10 subjects, 40 faculty, four years
+ * of dates), so a query backed by the right index should stay flat while the rows grow 100x.
+ * Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest
+@Tag("benchmark")
+class AttendanceQueryScalingBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int[] ROW_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int ROWS_PER_STUDENT = 200;
+    private static final int SUBJECTS = 10;
+    private static final int DAYS = 1460;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2021, 1, 1);
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 200;
+    // Latency may grow with index depth, but nowhere near the 100x growth in rows
+    private static final double MAX_GROWTH = 5.0;
+    // Sub-millisecond medians are dominated by noise; compare against at least this floor
+    private static final double BASELINE_FLOOR_MS = 1.0;
+
+    private static final Sort PAGE_SORT = Sort.by(Sort.Direction.DESC, "date", "id");
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private StudentAttendanceSummaryRepository summaryRepository;
+
+    @Autowired
+    private AttendanceSummaryService summaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void hotQueriesStayFlatAsRowsGrow() {
+        Map<String, double[]> medians = new LinkedHashMap<>();
+
+        for (int size = 0; size < ROW_COUNTS.length; size++) {
+            int rows = ROW_COUNTS[size];
+            int students = rows / ROWS_PER_STUDENT;
+            seed(rows, students);
+
+            Map<String, IntConsumer> queries = queries(students);
+            for (Map.Entry<String, IntConsumer> query : queries.entrySet()) {
+                double median = medianMillis(query.getValue());
+                medians.computeIfAbsent(query.getKey(), k -> new double[ROW_COUNTS.length])[size] = median;
+            }
+            assertIndexedPlans(students);
+        }
+
+        report(medians);
+        medians.forEach((query, byRows) -> {
+            double baseline = Math.max(byRows[0], BASELINE_FLOOR_MS);
+            assertThat(byRows[byRows.length - 1])
+                    .as("%s median at %,d rows vs %,d rows", query, ROW_COUNTS[ROW_COUNTS.length - 1], ROW_COUNTS[0])
+                    .isLessThan(baseline * MAX_GROWTH);
+        });
+    }
+
+    // Each run uses a different key so the benchmark is not one hot cached row
+    private Map<String, IntConsumer> queries(int students) {
+        Map<String, IntConsumer> queries = new LinkedHashMap<>();
+        queries.put("student page", run -> attendanceRepository.findByStudentUsername(
+                student(run * 7919 % students), ScrollPosition.keyset(), PAGE_SORT, Limit.of(50)));
+        queries.put("faculty page", run -> attendanceRepository.findByFacultyUsername(
+                "fac" + run % 40, ScrollPosition.keyset(), PAGE_SORT, Limit.of(50)));
+        queries.put("subject page", run -> attendanceRepository.findBySubject(
+                subject(run % SUBJECTS), ScrollPosition.keyset(), PAGE_SORT, Limit.of(50)));
+        queries.put("date page", run -> attendanceRepository.findByDate(
+                FIRST_DAY.plusDays(run * 31L % DAYS), ScrollPosition.keyset(), PAGE_SORT, Limit.of(50)));
+        queries.put("duplicate check", run -> attendanceRepository.findMarkedStudentUsernames(
+                IntStream.range(0, 60).mapToObj(i -> student((run * 60 + i) % students)).toList(),
+                subject(run % SUBJECTS), FIRST_DAY.plusDays(run % DAYS)));
+        queries.put("student stats", run -> summaryRepository.getTotalsByStudentUsername(
+                student(run * 104729 % students)));
+        return queries;
+    }
+
+    private void seed(int rows, int students) {
+        jdbcTemplate.execute("TRUNCATE attendance, student_attendance_summary");
+        // Row i: student i % students, subject k % 10 where k = i / students, and a date that is
+        // distinct per (student, subject); faculty are fixed per subject
+        jdbcTemplate.update("""
+                INSERT INTO attendance (id, student_username, student_name, faculty_username, faculty_name,
+                                        subject, date, present, remarks)
+                SELECT i + 1,
+                       'student' || (i % ?),
+                       'Student ' || (i % ?),
+                       'fac' || (((i / ?) % ?) * 4 + (i % ?) % 4),
+                       'Faculty',
+                       'Subject ' || ((i / ?) % ?),
+                       DATE '2021-01-01' + CAST((((i / ?) / ?) * 73 + i % ?) % ? AS INTEGER),
+                       i % 5 <> 0,
+                       NULL
+                FROM generate_series(0, ? - 1) AS i
+                """, students, students, students, SUBJECTS, students, students, SUBJECTS,
+                students, SUBJECTS, students, DAYS, rows);
+        summaryService.rebuildSummaries();
+        jdbcTemplate.execute("VACUUM ANALYZE attendance");
+        jdbcTemplate.execute("VACUUM ANALYZE student_attendance_summary");
+    }
+
+    private double medianMillis(IntConsumer query) {
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            query.accept(run);
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            query.accept(WARMUP_RUNS + run);
+            millis[run] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    // Whatever the timings say, none of the hot reads may fall back to scanning attendance
+    private void assertIndexedPlans(int students) {
+        List<String> queries = List.of(
+                "SELECT * FROM attendance WHERE student_username = 'student1' ORDER BY date DESC, id DESC LIMIT 51",
+                "SELECT * FROM attendance WHERE faculty_username = 'fac1' ORDER BY date DESC, id DESC LIMIT 51",
+                "SELECT * FROM attendance WHERE subject = 'Subject 1' ORDER BY date DESC, id DESC LIMIT 51",
+                "SELECT * FROM attendance WHERE date = DATE '2022-06-01' ORDER BY date DESC, id DESC LIMIT 51",
+                "SELECT student_username FROM attendance WHERE student_username IN ('student1', 'student"
+                        + (students - 1) + "') AND subject = 'Subject 1' AND date = DATE '2022-06-01'");
+        for (String query : queries) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query, String.class));
+            assertThat(plan).as(query).doesNotContain("Seq Scan");
+        }
+    }
+
+    private void report(Map<String, double[]> medians) {
+        StringBuilder table = new StringBuilder(String.format("%n%-16s", "median ms"));
+        for (int rows : ROW_COUNTS) {
+            table.append(String.format("%16s", String.format("%,d rows", rows)));
+        }
+        medians.forEach((query, byRows) -> {
+            table.append(String.format("%n%-16s", query));
+            for (double median : byRows) {
+                table.append(String.format("%16.3f", median));
+            }
+        });
+        System.out.println(table);
+    }
+
+    private static String student(int index) {
+        return "student" + index;
+    }
+
+    private static String subject(int index) {
+        return "Subject " + index;
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a placement's applicant list; the placement itself is sent once in PlacementApplicantsDTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantDTO {
+    private Long id;
+    private String studentUsername;
+    private LocalDateTime appliedAt;
+    private ApplicationStatus status;
+}
@@ -0,0 +1,26 @@
+package com.project.placementservice.DTO;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of an applicant export; profile fields are null when Profile Service has no
+ * profile for the student or could not be reached
+ */
+@Data
+@JsonPropertyOrder({"applicationId", "studentUsername", "firstName", "lastName", "email",
+        "phoneNumber", "latestCgpa", "status", "appliedAt"})
+public class ApplicantExportRow {
+    private Long applicationId;
+    private String studentUsername;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private Double latestCgpa;
+    private ApplicationStatus status;
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,16 @@
+package com.project.placementservice.DTO;
+
+import lombok.Data;
+
+/**
+ * Contact details and latest CGPA of a student, as returned by Profile Service
+ */
+@Data
+public class ApplicantProfileDTO {
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private Double latestCgpa;
+}
@@ -0,0 +1,16 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Id, student and current status of an application, as read by bulk status transitions
+ */
+@Data
+@AllArgsConstructor
+public class ApplicationStatusRow {
+    private Long id;
+    private String studentUsername;
+    private ApplicationStatus status;
+}
@@ -0,0 +1,15 @@
+package com.project.placementservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of an apply: the application, and whether this call created it
+ * (false when the student had already applied or the idempotency key was replayed)
+ */
+@Data
+@AllArgsConstructor
+public class ApplyResult {
+    private ApplicationResponseDTO application;
+    private boolean created;
+}
@@ -0,0 +1,12 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateRequestDTO {
+    private List<Long> applicationIds;
+    private ApplicationStatus status;
+}
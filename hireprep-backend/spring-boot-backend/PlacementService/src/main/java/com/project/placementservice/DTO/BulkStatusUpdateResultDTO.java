@@ -0,0 +1,27 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateResultDTO {
+    private Long placementId;
+    private ApplicationStatus status;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    // One entry per distinct input row, in input order
+    private List<StatusTransitionResultDTO> results = new ArrayList<>();
+
+    public void add(StatusTransitionResultDTO result) {
+        results.add(result);
+        switch (result.getOutcome()) {
+            case UPDATED -> updated++;
+            case UNCHANGED -> unchanged++;
+            default -> failed++;
+        }
+    }
+}
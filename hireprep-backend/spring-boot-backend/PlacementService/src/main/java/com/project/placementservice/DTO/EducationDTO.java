@@ -0,0 +1,14 @@
+package com.project.placementservice.DTO;
+
+import lombok.Data;
+
+/**
+ * Education row as returned by Profile Service, limited to the fields eligibility uses
+ */
+@Data
+public class EducationDTO {
+    private String level;
+    private Integer completionYear;
+    private Double percentage;
+    private Double cgpa;
+}
@@ -0,0 +1,18 @@
+package com.project.placementservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Applicant list for a placement, with the placement as a header instead of repeated per row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementApplicantsDTO {
+    private PlacementResponseDTO placement;
+    private List<ApplicantDTO> applicants;
+}
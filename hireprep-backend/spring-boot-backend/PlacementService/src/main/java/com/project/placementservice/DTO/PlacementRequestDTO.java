@@ -1,8 +1,10 @@
 package com.project.placementservice.DTO;
 
+import com.project.placementservice.model.EligibilityCriterion;
 import com.project.placementservice.model.PlacementType;
 import lombok.Data;
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 public class PlacementRequestDTO {
@@ -15,5 +17,7 @@ public class PlacementRequestDTO {
     private LocalDate lastDateToApply;
     private Double compensation;
     private String bond;
+    private Boolean experienceRequired;
+    private List<EligibilityCriterion> eligibilityCriteria;
     private String postedByUsername;
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.project.placementservice.DTO;
 
+import com.project.placementservice.model.EligibilityCriterion;
 import com.project.placementservice.model.PlacementType;
 import lombok.Data;
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 public class PlacementResponseDTO {
@@ -17,6 +19,8 @@ public class PlacementResponseDTO {
     private LocalDate lastDateToApply;
     private Double compensation;
     private String bond;
+    private Boolean experienceRequired;
+    private List<EligibilityCriterion> eligibilityCriteria;
     private String postedByUsername;
     private Integer totalApplications;
     private Boolean hasApplied;
@@ -0,0 +1,24 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.PlacementType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class PlacementSearchCriteria {
+    private String q;
+    private List<PlacementType> type;
+    private Double minCompensation;
+    private Double maxCompensation;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate driveFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate driveTo;
+    // OPEN or CLOSED, by lastDateToApply
+    private String status;
+    private int page = 0;
+    private int size = 20;
+}
@@ -0,0 +1,18 @@
+package com.project.placementservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class PlacementSearchResultDTO {
+    private long total;
+    private int page;
+    private int size;
+    private List<PlacementResponseDTO> placements;
+    // facet name -> value -> matching placements, e.g. type -> FULLTIME -> 12
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,27 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.PlacementType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Placement fields shown on a student's application list; the description is cut to a preview
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementSummaryDTO {
+    private Long id;
+    private String title;
+    private String role;
+    private PlacementType type;
+    private String experience;
+    private LocalDate dateOfDrive;
+    private LocalDate lastDateToApply;
+    private Double compensation;
+    private String bond;
+    private String descriptionPreview;
+}
@@ -0,0 +1,19 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.Placement;
+import lombok.Data;
+
+/**
+ * Placement row together with whether a given student has applied,
+ * as returned by the listing queries
+ */
+@Data
+public class PlacementWithStats {
+    private Placement placement;
+    private Boolean hasApplied;
+
+    public PlacementWithStats(Placement placement, Long studentApplications) {
+        this.placement = placement;
+        this.hasApplied = studentApplications != null && studentApplications > 0;
+    }
+}
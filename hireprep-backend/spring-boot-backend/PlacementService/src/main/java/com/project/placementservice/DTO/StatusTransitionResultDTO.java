@@ -0,0 +1,27 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one row of a bulk status transition. applicationId is null when a
+ * username from a CSV upload has no application for the placement.
+ */
+@Data
+@AllArgsConstructor
+public class StatusTransitionResultDTO {
+    private Long applicationId;
+    private String studentUsername;
+    private ApplicationStatus previousStatus;
+    private Outcome outcome;
+
+    public enum Outcome {
+        UPDATED,
+        // Already in the target status
+        UNCHANGED,
+        // Not allowed from the current status, or the status changed concurrently
+        INVALID_TRANSITION,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.placementservice.DTO;
+
+import com.project.placementservice.model.ApplicationStatus;
+import com.project.placementservice.model.PlacementType;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A student's application with a placement summary, read as one flat projection row
+ */
+@Data
+public class StudentApplicationDTO {
+    private Long id;
+    private Long placementId;
+    private LocalDateTime appliedAt;
+    private ApplicationStatus status;
+    private PlacementSummaryDTO placement;
+
+    public StudentApplicationDTO(Long id, LocalDateTime appliedAt, ApplicationStatus status,
+                                 Long placementId, String title, String role, PlacementType type,
+                                 String experience, LocalDate dateOfDrive, LocalDate lastDateToApply,
+                                 Double compensation, String bond, String descriptionPreview) {
+        this.id = id;
+        this.placementId = placementId;
+        this.appliedAt = appliedAt;
+        this.status = status;
+        this.placement = new PlacementSummaryDTO(placementId, title, role, type, experience,
+                dateOfDrive, lastDateToApply, compensation, bond, descriptionPreview);
+    }
+}
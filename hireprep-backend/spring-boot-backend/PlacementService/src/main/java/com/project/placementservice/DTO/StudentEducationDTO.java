@@ -0,0 +1,12 @@
+package com.project.placementservice.DTO;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StudentEducationDTO {
+    private String username;
+    private boolean hasExperience;
+    private List<EducationDTO> education;
+}
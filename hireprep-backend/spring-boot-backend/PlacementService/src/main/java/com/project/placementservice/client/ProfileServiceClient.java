@@ -0,0 +1,89 @@
+package com.project.placementservice.client;
+
+import com.project.placementservice.DTO.ApplicantProfileDTO;
+import com.project.placementservice.DTO.StudentEducationDTO;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Client to read student data from Profile Service for eligibility matching and
+ * applicant exports. Calls go through a bulkhead and circuit breaker; while Profile Service
+ * is unavailable they fail fast with ProfileServiceUnavailableException.
+ */
+@Component
+@Slf4j
+public class ProfileServiceClient {
+
+    private final RestTemplate restTemplate;
+    private final String profileInternalUrl;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ProfileServiceClient(
+            RestTemplate restTemplate,
+            @Value("${profile.service.url:http://localhost:8081}/internal/profile") String profileInternalUrl,
+            CircuitBreaker profileServiceCircuitBreaker,
+            Bulkhead profileServiceBulkhead) {
+        this.restTemplate = restTemplate;
+        this.profileInternalUrl = profileInternalUrl;
+        this.circuitBreaker = profileServiceCircuitBreaker;
+        this.bulkhead = profileServiceBulkhead;
+    }
+
+    public List<StudentEducationDTO> getAllStudentEducation() {
+        List<StudentEducationDTO> students = callProfileService(() -> restTemplate.exchange(
+                profileInternalUrl + "/students/education",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<StudentEducationDTO>>() {}
+        ).getBody());
+        return students != null ? students : List.of();
+    }
+
+    /**
+     * Empty when the user no longer exists or is not a student
+     */
+    public Optional<StudentEducationDTO> getStudentEducation(String username) {
+        try {
+            return Optional.ofNullable(callProfileService(() -> restTemplate.getForObject(
+                    profileInternalUrl + "/students/{username}/education", StudentEducationDTO.class, username)));
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Profiles for one chunk of applicants in a single request; unknown usernames are left out
+     */
+    public List<ApplicantProfileDTO> getApplicantProfiles(Collection<String> usernames) {
+        ApplicantProfileDTO[] profiles = callProfileService(() -> restTemplate.postForObject(
+                profileInternalUrl + "/batch/applicants", List.copyOf(usernames), ApplicantProfileDTO[].class));
+        return profiles != null ? List.of(profiles) : List.of();
+    }
+
+    private <T> T callProfileService(Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException
+                 | ResourceAccessException | HttpServerErrorException e) {
+            log.error("Profile Service unavailable: {}", e.getMessage());
+            throw new ProfileServiceUnavailableException("Profile Service unavailable: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.placementservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async listeners such as the placement eligibility refresh in EligibilityService
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,79 @@
+package com.project.placementservice.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker and bulkhead guarding calls to Profile Service.
+ * State, call outcomes and rejections are published as resilience4j.* metrics
+ * tagged name=profileService.
+ */
+@Configuration
+public class ProfileServiceResilienceConfig {
+
+    public static final String PROFILE_SERVICE = "profileService";
+
+    @Bean
+    public CircuitBreaker profileServiceCircuitBreaker(
+            @Value("${profile.service.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${profile.service.circuit-breaker.slow-call-duration-threshold:5s}") Duration slowCallDuration,
+            @Value("${profile.service.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${profile.service.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${profile.service.circuit-breaker.wait-duration-in-open-state:30s}") Duration waitInOpenState,
+            @Value("${profile.service.circuit-breaker.permitted-calls-in-half-open-state:3}") int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        // Only I/O errors, 5xx and slow calls count against Profile Service; a 404 is a normal answer
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(PROFILE_SERVICE);
+    }
+
+    @Bean
+    public Bulkhead profileServiceBulkhead(
+            @Value("${profile.service.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${profile.service.bulkhead.max-wait-duration:0ms}") Duration maxWait,
+            MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        Bulkhead bulkhead = registry.bulkhead(PROFILE_SERVICE);
+
+        Counter rejected = Counter.builder("resilience4j.bulkhead.rejected.calls")
+                .description("Calls rejected because the bulkhead was full")
+                .tag("name", PROFILE_SERVICE)
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        return bulkhead;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.placementservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled maintenance jobs such as the application count reconciliation
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,32 @@
 package com.project.placementservice.controller;
 
-import com.project.placementservice.DTO.ApplicationResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.placementservice.DTO.ApplyResult;
+import com.project.placementservice.DTO.BulkStatusUpdateRequestDTO;
 import com.project.placementservice.DTO.PlacementRequestDTO;
 import com.project.placementservice.DTO.PlacementResponseDTO;
+import com.project.placementservice.DTO.PlacementSearchCriteria;
+import com.project.placementservice.DTO.StudentApplicationDTO;
+import com.project.placementservice.model.ApplicationStatus;
+import com.project.placementservice.service.ApplicantExportService;
+import com.project.placementservice.service.ApplicationStatusService;
+import com.project.placementservice.service.EligibilityService;
+import com.project.placementservice.service.PlacementSearchService;
 import com.project.placementservice.service.PlacementService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,14 +36,35 @@ import java.util.Map;
 //@CrossOrigin(origins = "*")
 public class PlacementController {
 
+    // Tells the gateway response cache which cached paths a mutation makes stale
+    private static final String CACHE_INVALIDATE_HEADER = "X-Cache-Invalidate";
+    private static final String CACHED_PATHS = "/api/placements";
+
     @Autowired
     private PlacementService service;
 
+    @Autowired
+    private PlacementSearchService searchService;
+
+    @Autowired
+    private EligibilityService eligibilityService;
+
+    @Autowired
+    private ApplicationStatusService applicationStatusService;
+
+    @Autowired
+    private ApplicantExportService applicantExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<?> createPlacement(@RequestBody PlacementRequestDTO dto) {
         try {
             PlacementResponseDTO created = service.createPlacement(dto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(created);
         } catch (Exception e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -45,6 +84,21 @@ public class PlacementController {
         return ResponseEntity.ok(service.getAvailablePlacements(studentUsername));
     }
 
+    // Full-text search over title, role and description with type, compensation,
+    // drive date and open/closed filters; facet counts cover every match, not just the page
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPlacements(
+            PlacementSearchCriteria criteria,
+            @RequestParam(required = false) String studentUsername) {
+        try {
+            return ResponseEntity.ok(searchService.search(criteria, studentUsername));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getPlacement(
             @PathVariable Long id,
@@ -61,10 +115,14 @@ public class PlacementController {
     @PostMapping("/{id}/apply")
     public ResponseEntity<?> applyForPlacement(
             @PathVariable Long id,
-            @RequestParam String studentUsername) {
+            @RequestParam String studentUsername,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            ApplicationResponseDTO application = service.applyForPlacement(id, studentUsername);
-            return ResponseEntity.status(HttpStatus.CREATED).body(application);
+            // 201 for a new application, 200 with the existing one on a repeat apply
+            ApplyResult result = service.applyForPlacement(id, studentUsername, idempotencyKey);
+            return ResponseEntity.status(result.isCreated() ? HttpStatus.CREATED : HttpStatus.OK)
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(result.getApplication());
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -73,15 +131,96 @@ public class PlacementController {
     }
 
     @GetMapping("/applications/student/{studentUsername}")
-    public ResponseEntity<List<ApplicationResponseDTO>> getStudentApplications(
+    public ResponseEntity<List<StudentApplicationDTO>> getStudentApplications(
             @PathVariable String studentUsername) {
         return ResponseEntity.ok(service.getStudentApplications(studentUsername));
     }
 
     @GetMapping("/{id}/applications")
-    public ResponseEntity<List<ApplicationResponseDTO>> getPlacementApplications(
-            @PathVariable Long id) {
-        return ResponseEntity.ok(service.getPlacementApplications(id));
+    public ResponseEntity<?> getPlacementApplications(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(service.getPlacementApplications(id));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    // Applicants with names, contact details and latest CGPA, streamed as CSV or NDJSON
+    @GetMapping("/{id}/applications/export")
+    public ResponseEntity<StreamingResponseBody> exportPlacementApplications(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "csv") String format) {
+        ApplicantExportService.Format exportFormat;
+        try {
+            exportFormat = ApplicantExportService.Format.parse(format);
+            applicantExportService.checkPlacementExists(id);
+        } catch (IllegalArgumentException e) {
+            return exportError(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            return exportError(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("placement-" + id + "-applicants." + exportFormat.getExtension())
+                        .build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(out -> applicantExportService.export(id, exportFormat, out));
+    }
+
+    // Streaming endpoints must return a StreamingResponseBody, so the error map is written through one
+    private ResponseEntity<StreamingResponseBody> exportError(HttpStatus status, String message) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, error));
+    }
+
+    // Moves many applications of a placement to one status; rows the state machine
+    // does not allow are reported per row instead of failing the request
+    @PostMapping(value = "/{id}/applications/status", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> updateApplicationStatuses(
+            @PathVariable Long id,
+            @RequestBody BulkStatusUpdateRequestDTO dto) {
+        try {
+            return ResponseEntity.ok()
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(applicationStatusService.transitionByIds(id, dto.getApplicationIds(), dto.getStatus()));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    // Same as above for a CSV of student usernames (first column), read as a stream
+    @PostMapping(value = "/{id}/applications/status", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> updateApplicationStatusesFromCsv(
+            @PathVariable Long id,
+            @RequestParam ApplicationStatus status,
+            InputStream csv) {
+        try {
+            return ResponseEntity.ok()
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(applicationStatusService.transitionByUsernames(
+                            id, new InputStreamReader(csv, StandardCharsets.UTF_8), status));
+        } catch (IllegalArgumentException | IOException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
     }
 
     @PutMapping("/{id}")
@@ -90,7 +229,24 @@ public class PlacementController {
             @RequestBody PlacementRequestDTO dto) {
         try {
             PlacementResponseDTO updated = service.updatePlacement(id, dto);
-            return ResponseEntity.ok(updated);
+            return ResponseEntity.ok()
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(updated);
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    @GetMapping("/{id}/eligible-students")
+    public ResponseEntity<?> getEligibleStudents(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(eligibilityService.getEligibleStudents(id));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -101,6 +257,8 @@ public class PlacementController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePlacement(@PathVariable Long id) {
         service.deletePlacement(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.noContent()
+                .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                .build();
     }
 }
\ No newline at end of file
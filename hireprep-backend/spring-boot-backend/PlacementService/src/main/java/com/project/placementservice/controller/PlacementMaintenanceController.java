@@ -0,0 +1,47 @@
+package com.project.placementservice.controller;
+
+import com.project.placementservice.client.ProfileServiceUnavailableException;
+import com.project.placementservice.service.ApplicationCountService;
+import com.project.placementservice.service.EligibilityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.RestClientException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * On-demand runs of the scheduled maintenance jobs. Lives under /internal, which the
+ * gateway does not route, so these full-table jobs cannot be triggered by clients.
+ */
+@RestController
+@RequestMapping("/internal/placements")
+public class PlacementMaintenanceController {
+
+    @Autowired
+    private ApplicationCountService applicationCountService;
+
+    @Autowired
+    private EligibilityService eligibilityService;
+
+    // Recount total_applications from application rows (also runs nightly)
+    @PostMapping("/application-counts/reconcile")
+    public ResponseEntity<Map<String, Integer>> reconcileApplicationCounts() {
+        int corrected = applicationCountService.reconcile();
+        return ResponseEntity.ok(Map.of("corrected", corrected));
+    }
+
+    // Re-match every open restricted placement (also runs nightly)
+    @PostMapping("/eligibility/rebuild")
+    public ResponseEntity<?> rebuildEligibility() {
+        try {
+            return ResponseEntity.ok(Map.of("eligibleStudents", eligibilityService.rebuild()));
+        } catch (ProfileServiceUnavailableException | RestClientException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+    }
+}
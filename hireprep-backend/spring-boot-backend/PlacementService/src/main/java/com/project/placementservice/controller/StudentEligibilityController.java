@@ -0,0 +1,36 @@
+package com.project.placementservice.controller;
+
+import com.project.placementservice.client.ProfileServiceUnavailableException;
+import com.project.placementservice.service.EligibilityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.RestClientException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hook called by Profile Service after a profile change; re-matches the student's eligibility.
+ * Lives under /internal, which the gateway does not route, so only other services can reach it.
+ */
+@RestController
+@RequestMapping("/internal/placements/eligibility/students")
+public class StudentEligibilityController {
+
+    @Autowired
+    private EligibilityService eligibilityService;
+
+    @DeleteMapping("/{username}")
+    public ResponseEntity<?> refreshStudentEligibility(@PathVariable String username) {
+        try {
+            eligibilityService.refreshStudent(username);
+            return ResponseEntity.noContent().build();
+        } catch (ProfileServiceUnavailableException | RestClientException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.placementservice.eligibility;
+
+import com.project.placementservice.DTO.EducationDTO;
+import com.project.placementservice.DTO.StudentEducationDTO;
+import com.project.placementservice.model.EligibilityCriterion;
+import com.project.placementservice.model.Placement;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evaluates a placement's eligibility rules against one student's education.
+ * Every criterion must be met by at least one education row of its level.
+ */
+@Component
+public class EligibilityMatcher {
+
+    public boolean matches(Placement placement, StudentEducationDTO student) {
+        if (Boolean.TRUE.equals(placement.getExperienceRequired()) && !student.isHasExperience()) {
+            return false;
+        }
+        for (EligibilityCriterion criterion : placement.getEligibilityCriteria()) {
+            if (!meetsAny(criterion, student)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean meetsAny(EligibilityCriterion criterion, StudentEducationDTO student) {
+        if (student.getEducation() == null) {
+            return false;
+        }
+        for (EducationDTO education : student.getEducation()) {
+            if (meets(criterion, education)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean meets(EligibilityCriterion criterion, EducationDTO education) {
+        if (education.getLevel() == null || !criterion.getLevel().trim().equalsIgnoreCase(education.getLevel().trim())) {
+            return false;
+        }
+
+        Integer year = education.getCompletionYear();
+        if (criterion.getCompletionYearFrom() != null && (year == null || year < criterion.getCompletionYearFrom())) {
+            return false;
+        }
+        if (criterion.getCompletionYearTo() != null && (year == null || year > criterion.getCompletionYearTo())) {
+            return false;
+        }
+
+        boolean cgpaRule = criterion.getMinCgpa() != null;
+        boolean percentageRule = criterion.getMinPercentage() != null;
+        if (!cgpaRule && !percentageRule) {
+            return true;
+        }
+        return (cgpaRule && education.getCgpa() != null && education.getCgpa() >= criterion.getMinCgpa())
+                || (percentageRule && education.getPercentage() != null
+                        && education.getPercentage() >= criterion.getMinPercentage());
+    }
+}
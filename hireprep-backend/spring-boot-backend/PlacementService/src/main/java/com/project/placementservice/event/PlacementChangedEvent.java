@@ -0,0 +1,16 @@
+package com.project.placementservice.event;
+
+import com.project.placementservice.model.Placement;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a placement is created, updated or deleted so the search index
+ * can pick up the change once it is committed. placement is null for a delete.
+ */
+@Data
+@AllArgsConstructor
+public class PlacementChangedEvent {
+    private Long placementId;
+    private Placement placement;
+}
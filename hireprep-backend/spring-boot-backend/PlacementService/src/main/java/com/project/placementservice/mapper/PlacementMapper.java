@@ -2,9 +2,12 @@ package com.project.placementservice.mapper;
 
 import com.project.placementservice.DTO.PlacementRequestDTO;
 import com.project.placementservice.DTO.PlacementResponseDTO;
+import com.project.placementservice.DTO.PlacementWithStats;
 import com.project.placementservice.model.Placement;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
 @Component
 public class PlacementMapper {
 
@@ -20,9 +23,20 @@ public class PlacementMapper {
         placement.setCompensation(dto.getCompensation());
         placement.setBond(dto.getBond());
         placement.setPostedByUsername(dto.getPostedByUsername());
+        applyEligibility(placement, dto);
         return placement;
     }
 
+    public void applyEligibility(Placement placement, PlacementRequestDTO dto) {
+        placement.setExperienceRequired(Boolean.TRUE.equals(dto.getExperienceRequired()));
+        placement.getEligibilityCriteria().clear();
+        if (dto.getEligibilityCriteria() != null) {
+            placement.getEligibilityCriteria().addAll(dto.getEligibilityCriteria());
+        }
+        placement.setEligibilityRestricted(
+                placement.getExperienceRequired() || !placement.getEligibilityCriteria().isEmpty());
+    }
+
     public PlacementResponseDTO toDTO(Placement placement, Integer totalApplications, Boolean hasApplied) {
         PlacementResponseDTO dto = new PlacementResponseDTO();
         dto.setId(placement.getId());
@@ -36,9 +50,15 @@ public class PlacementMapper {
         dto.setLastDateToApply(placement.getLastDateToApply());
         dto.setCompensation(placement.getCompensation());
         dto.setBond(placement.getBond());
+        dto.setExperienceRequired(placement.getExperienceRequired());
+        dto.setEligibilityCriteria(new ArrayList<>(placement.getEligibilityCriteria()));
         dto.setPostedByUsername(placement.getPostedByUsername());
         dto.setTotalApplications(totalApplications);
         dto.setHasApplied(hasApplied);
         return dto;
     }
+
+    public PlacementResponseDTO toDTO(PlacementWithStats row) {
+        return toDTO(row.getPlacement(), row.getPlacement().getTotalApplications(), row.getHasApplied());
+    }
 }
\ No newline at end of file
@@ -12,7 +12,7 @@ public class Application {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "placement_id", nullable = false)
     private Placement placement;
 
@@ -26,6 +26,10 @@ public class Application {
     @Column(nullable = false)
     private ApplicationStatus status = ApplicationStatus.APPLIED;
 
+    // Optional Idempotency-Key sent with the apply request
+    @Column(unique = true)
+    private String idempotencyKey;
+
     @PrePersist
     protected void onCreate() {
         appliedAt = LocalDateTime.now();
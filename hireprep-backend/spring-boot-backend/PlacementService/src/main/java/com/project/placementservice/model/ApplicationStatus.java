@@ -1,8 +1,30 @@
 package com.project.placementservice.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ApplicationStatus {
     APPLIED,
     SHORTLISTED,
     REJECTED,
-    SELECTED
-}
\ No newline at end of file
+    SELECTED;
+
+    // APPLIED -> SHORTLISTED | REJECTED, SHORTLISTED -> SELECTED | REJECTED; REJECTED and SELECTED are final
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return switch (this) {
+            case APPLIED -> target == SHORTLISTED || target == REJECTED;
+            case SHORTLISTED -> target == SELECTED || target == REJECTED;
+            case REJECTED, SELECTED -> false;
+        };
+    }
+
+    public static Set<ApplicationStatus> sourcesOf(ApplicationStatus target) {
+        Set<ApplicationStatus> sources = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
+}
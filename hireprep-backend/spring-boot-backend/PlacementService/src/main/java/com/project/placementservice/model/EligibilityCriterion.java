@@ -0,0 +1,25 @@
+package com.project.placementservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+
+/**
+ * Requirement on one education level (matched case-insensitively against the student's
+ * Education.level). A score rule passes when either the CGPA or the percentage meets its
+ * minimum; unset fields are not checked.
+ */
+@Embeddable
+@Data
+public class EligibilityCriterion {
+    @Column(nullable = false)
+    private String level;
+
+    private Double minCgpa;
+
+    private Double minPercentage;
+
+    private Integer completionYearFrom;
+
+    private Integer completionYearTo;
+}
@@ -2,6 +2,9 @@ package com.project.placementservice.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +49,25 @@ public class Placement {
     @Column(nullable = false)
     private String postedByUsername;
 
+    // Maintained only by atomic UPDATEs in PlacementRepository, never written through the entity
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Integer totalApplications = 0;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean experienceRequired = false;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "placement_eligibility_criterion", joinColumns = @JoinColumn(name = "placement_id"))
+    @BatchSize(size = 50)
+    private List<EligibilityCriterion> eligibilityCriteria = new ArrayList<>();
+
+    // Set by PlacementMapper whenever the rules change; unrestricted placements are open to every student
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean eligibilityRestricted = false;
+
     @OneToMany(mappedBy = "placement", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Application> applications = new ArrayList<>();
 
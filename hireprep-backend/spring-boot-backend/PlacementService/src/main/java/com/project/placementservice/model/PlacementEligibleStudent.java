@@ -0,0 +1,33 @@
+package com.project.placementservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * A student who meets a restricted placement's eligibility rules. Rows are rewritten
+ * by EligibilityService whenever the placement or the student's education changes.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(PlacementEligibleStudent.Key.class)
+public class PlacementEligibleStudent {
+    @Id
+    private Long placementId;
+
+    @Id
+    private String studentUsername;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long placementId;
+        private String studentUsername;
+    }
+}
@@ -1,14 +1,88 @@
 package com.project.placementservice.repository;
 
+import com.project.placementservice.DTO.ApplicantDTO;
+import com.project.placementservice.DTO.ApplicationStatusRow;
+import com.project.placementservice.DTO.StudentApplicationDTO;
 import com.project.placementservice.model.Application;
+import com.project.placementservice.model.ApplicationStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+    // Entity finders fetch-join the placement, which is lazy on Application
+    @EntityGraph(attributePaths = "placement")
     List<Application> findByStudentUsername(String studentUsername);
+    @EntityGraph(attributePaths = "placement")
     List<Application> findByPlacementId(Long placementId);
+    @EntityGraph(attributePaths = "placement")
     Optional<Application> findByPlacementIdAndStudentUsername(Long placementId, String studentUsername);
     boolean existsByPlacementIdAndStudentUsername(Long placementId, String studentUsername);
     int countByPlacementId(Long placementId);
+    @EntityGraph(attributePaths = "placement")
+    Optional<Application> findByIdempotencyKey(String idempotencyKey);
+
+    // Applicant rows for one placement, without the placement columns
+    @Query("SELECT new com.project.placementservice.DTO.ApplicantDTO(a.id, a.studentUsername, a.appliedAt, a.status) " +
+            "FROM Application a WHERE a.placement.id = :placementId ORDER BY a.appliedAt")
+    List<ApplicantDTO> findApplicantsByPlacementId(@Param("placementId") Long placementId);
+
+    // Next page of a placement's applicants after the given id, for streaming exports
+    @Query("SELECT new com.project.placementservice.DTO.ApplicantDTO(a.id, a.studentUsername, a.appliedAt, a.status) " +
+            "FROM Application a WHERE a.placement.id = :placementId AND a.id > :afterId ORDER BY a.id")
+    List<ApplicantDTO> findApplicantsAfter(@Param("placementId") Long placementId,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    // Current status of a chunk of one placement's applications, for bulk transitions
+    @Query("SELECT new com.project.placementservice.DTO.ApplicationStatusRow(a.id, a.studentUsername, a.status) " +
+            "FROM Application a WHERE a.placement.id = :placementId AND a.id IN :ids")
+    List<ApplicationStatusRow> findStatusRowsByIds(@Param("placementId") Long placementId,
+                                                   @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.project.placementservice.DTO.ApplicationStatusRow(a.id, a.studentUsername, a.status) " +
+            "FROM Application a WHERE a.placement.id = :placementId AND a.studentUsername IN :usernames")
+    List<ApplicationStatusRow> findStatusRowsByStudentUsernames(@Param("placementId") Long placementId,
+                                                                @Param("usernames") Collection<String> usernames);
+
+    // Set-based transition; the status guard skips rows that changed since they were read
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :target WHERE a.id IN :ids AND a.status IN :sources")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("sources") Collection<ApplicationStatus> sources,
+                     @Param("target") ApplicationStatus target);
+
+    // Student's applications with a placement summary; the description is cut to a 100-char preview in SQL
+    @Query("SELECT new com.project.placementservice.DTO.StudentApplicationDTO(a.id, a.appliedAt, a.status, " +
+            "p.id, p.title, p.role, p.type, p.experience, p.dateOfDrive, p.lastDateToApply, p.compensation, p.bond, " +
+            "CASE WHEN LENGTH(p.description) > 100 THEN CONCAT(SUBSTRING(p.description, 1, 100), '...') " +
+            "ELSE p.description END) " +
+            "FROM Application a JOIN a.placement p " +
+            "WHERE a.studentUsername = :studentUsername ORDER BY a.appliedAt DESC")
+    List<StudentApplicationDTO> findSummariesByStudentUsername(@Param("studentUsername") String studentUsername);
+
+    // Single-statement apply: inserts only while the placement is open and the student is eligible,
+    // and skips duplicates (same student or same idempotency key) without raising.
+    // Returns 0 when nothing was inserted.
+    @Modifying
+    @Query(value = "INSERT INTO application (placement_id, student_username, applied_at, status, idempotency_key) " +
+            "SELECT p.id, :studentUsername, :appliedAt, 'APPLIED', :idempotencyKey FROM placement p " +
+            "WHERE p.id = :placementId AND p.last_date_to_apply >= :today " +
+            "AND (p.eligibility_restricted = FALSE OR EXISTS (SELECT 1 FROM placement_eligible_student e " +
+            "WHERE e.placement_id = p.id AND e.student_username = :studentUsername)) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfOpen(@Param("placementId") Long placementId,
+                     @Param("studentUsername") String studentUsername,
+                     @Param("appliedAt") LocalDateTime appliedAt,
+                     @Param("today") LocalDate today,
+                     @Param("idempotencyKey") String idempotencyKey);
 }
\ No newline at end of file
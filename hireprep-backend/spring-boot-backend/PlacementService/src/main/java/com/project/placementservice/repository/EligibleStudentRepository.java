@@ -0,0 +1,17 @@
+package com.project.placementservice.repository;
+
+import com.project.placementservice.model.PlacementEligibleStudent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EligibleStudentRepository
+        extends JpaRepository<PlacementEligibleStudent, PlacementEligibleStudent.Key>, EligibleStudentRepositoryCustom {
+
+    // Eligible students of one placement, in username order
+    @Query("SELECT e.studentUsername FROM PlacementEligibleStudent e " +
+            "WHERE e.placementId = :placementId ORDER BY e.studentUsername")
+    List<String> findStudentUsernamesByPlacementId(@Param("placementId") Long placementId);
+}
@@ -0,0 +1,14 @@
+package com.project.placementservice.repository;
+
+import java.util.Collection;
+
+/**
+ * Set-based rewrites of the eligibility index; each call swaps the old rows for the
+ * new ones in a single transaction so readers never see a half-written list
+ */
+public interface EligibleStudentRepositoryCustom {
+
+    void replaceForPlacement(Long placementId, Collection<String> studentUsernames);
+
+    void replaceForStudent(String studentUsername, Collection<Long> placementIds);
+}
@@ -0,0 +1,42 @@
+package com.project.placementservice.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for the eligibility index; a placement can match thousands of students
+ */
+@Transactional
+public class EligibleStudentRepositoryCustomImpl implements EligibleStudentRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO placement_eligible_student (placement_id, student_username) " +
+            "VALUES (?, ?) ON CONFLICT DO NOTHING";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EligibleStudentRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void replaceForPlacement(Long placementId, Collection<String> studentUsernames) {
+        jdbcTemplate.update("DELETE FROM placement_eligible_student WHERE placement_id = ?", placementId);
+        jdbcTemplate.batchUpdate(INSERT, List.copyOf(studentUsernames), BATCH_SIZE, (statement, username) -> {
+            statement.setLong(1, placementId);
+            statement.setString(2, username);
+        });
+    }
+
+    @Override
+    public void replaceForStudent(String studentUsername, Collection<Long> placementIds) {
+        jdbcTemplate.update("DELETE FROM placement_eligible_student WHERE student_username = ?", studentUsername);
+        jdbcTemplate.batchUpdate(INSERT, List.copyOf(placementIds), BATCH_SIZE, (statement, placementId) -> {
+            statement.setLong(1, placementId);
+            statement.setString(2, studentUsername);
+        });
+    }
+}
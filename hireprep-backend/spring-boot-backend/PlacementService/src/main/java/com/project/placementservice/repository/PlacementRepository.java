@@ -1,12 +1,64 @@
 package com.project.placementservice.repository;
 
+import com.project.placementservice.DTO.PlacementWithStats;
 import com.project.placementservice.model.Placement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PlacementRepository extends JpaRepository<Placement, Long> {
     List<Placement> findByPostedByUsername(String username);
     List<Placement> findByLastDateToApplyGreaterThanEqualOrderByDatePostedDesc(LocalDate date);
     List<Placement> findAllByOrderByDatePostedDesc();
-}
\ No newline at end of file
+
+    // Placements whose eligibility rules are still worth matching (open for applications)
+    List<Placement> findByEligibilityRestrictedTrueAndLastDateToApplyGreaterThanEqual(LocalDate date);
+
+    // Placements with the per-student applied flag; counts come from total_applications
+    @Query("SELECT new com.project.placementservice.DTO.PlacementWithStats(p, " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.placement = p AND a.studentUsername = :studentUsername)) " +
+            "FROM Placement p ORDER BY p.datePosted DESC")
+    List<PlacementWithStats> findAllWithStats(@Param("studentUsername") String studentUsername);
+
+    // Open placements the student is eligible for and has not applied to yet
+    @Query("SELECT new com.project.placementservice.DTO.PlacementWithStats(p, 0L) " +
+            "FROM Placement p " +
+            "WHERE p.lastDateToApply >= :date AND NOT EXISTS " +
+            "(SELECT a.id FROM Application a WHERE a.placement = p AND a.studentUsername = :studentUsername) " +
+            "AND (p.eligibilityRestricted = false OR EXISTS " +
+            "(SELECT e.placementId FROM PlacementEligibleStudent e " +
+            "WHERE e.placementId = p.id AND e.studentUsername = :studentUsername)) " +
+            "ORDER BY p.datePosted DESC")
+    List<PlacementWithStats> findAvailableWithStats(@Param("date") LocalDate date,
+                                                    @Param("studentUsername") String studentUsername);
+
+    @Query("SELECT new com.project.placementservice.DTO.PlacementWithStats(p, " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.placement = p AND a.studentUsername = :studentUsername)) " +
+            "FROM Placement p WHERE p.id = :id")
+    Optional<PlacementWithStats> findByIdWithStats(@Param("id") Long id,
+                                                   @Param("studentUsername") String studentUsername);
+
+    // One page of search hits with the per-student applied flag; the caller restores rank order
+    @Query("SELECT new com.project.placementservice.DTO.PlacementWithStats(p, " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.placement = p AND a.studentUsername = :studentUsername)) " +
+            "FROM Placement p WHERE p.id IN :ids")
+    List<PlacementWithStats> findWithStatsByIdIn(@Param("ids") Collection<Long> ids,
+                                                 @Param("studentUsername") String studentUsername);
+
+    // Atomic counter bump in the caller's transaction; no read-modify-write
+    @Modifying
+    @Query("UPDATE Placement p SET p.totalApplications = p.totalApplications + 1 WHERE p.id = :id")
+    int incrementTotalApplications(@Param("id") Long id);
+
+    // Corrects counters that drifted from the application rows; returns the number fixed
+    @Modifying
+    @Query("UPDATE Placement p SET p.totalApplications = " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.placement = p) " +
+            "WHERE p.totalApplications <> (SELECT COUNT(a) FROM Application a WHERE a.placement = p)")
+    int reconcileTotalApplications();
+}
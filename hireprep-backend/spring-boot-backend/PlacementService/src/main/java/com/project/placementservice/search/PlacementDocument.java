@@ -0,0 +1,16 @@
+package com.project.placementservice.search;
+
+import com.project.placementservice.model.PlacementType;
+
+import java.time.LocalDate;
+
+/**
+ * The facet and sort fields the search index keeps per placement
+ */
+record PlacementDocument(Long id,
+                         PlacementType type,
+                         double compensation,
+                         LocalDate dateOfDrive,
+                         LocalDate lastDateToApply,
+                         LocalDate datePosted) {
+}
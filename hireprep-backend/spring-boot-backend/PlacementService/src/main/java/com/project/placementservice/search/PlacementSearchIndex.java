@@ -0,0 +1,365 @@
+package com.project.placementservice.search;
+
+import com.project.placementservice.DTO.PlacementSearchCriteria;
+import com.project.placementservice.model.Placement;
+import com.project.placementservice.model.PlacementType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over placement title, role and description, with facet
+ * counts on type, compensation band, drive month and open/closed status.
+ * <p>
+ * Every query term must match (the last one as a prefix, for search-as-you-type).
+ * Hits are ranked by field-weighted term frequency times idf, then newest first.
+ * Searches share a read lock; a placement change takes the write lock and only
+ * touches that placement's postings.
+ */
+@Component
+public class PlacementSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float ROLE_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "in", "is",
+            "of", "on", "or", "the", "to", "with");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final double[] compensationBands;
+    private final Timer searchTimer;
+
+    private volatile Segment segment = new Segment();
+    // Changes committed while a rebuild is loading; replayed onto the rebuilt segment
+    private List<Consumer<Segment>> journal;
+
+    public PlacementSearchIndex(
+            @Value("${placement.search.compensation-bands:0,25000,100000,500000,1000000}") double[] compensationBands,
+            MeterRegistry meterRegistry) {
+        this.compensationBands = compensationBands.clone();
+        Arrays.sort(this.compensationBands);
+        this.searchTimer = Timer.builder("placement.search.latency")
+                .description("Time to match, facet and rank a placement search in the index")
+                .register(meterRegistry);
+        Gauge.builder("placement.search.index.documents", this, index -> index.segment.documents.size())
+                .register(meterRegistry);
+        Gauge.builder("placement.search.index.postings", this, index -> index.segment.postingCount)
+                .register(meterRegistry);
+    }
+
+    public void index(Placement placement) {
+        PlacementDocument document = toDocument(placement);
+        Map<String, Float> termWeights = termWeights(placement);
+        apply(target -> target.upsert(document, termWeights));
+    }
+
+    public void remove(Long placementId) {
+        apply(target -> target.remove(placementId));
+    }
+
+    /**
+     * Replaces the index with freshly loaded placements. Changes committed while the
+     * loader runs are replayed on top, so a rebuild never loses an update.
+     */
+    public void rebuild(Supplier<? extends Collection<Placement>> loader) {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                journal = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Segment fresh = new Segment();
+            for (Placement placement : loader.get()) {
+                fresh.upsert(toDocument(placement), termWeights(placement));
+            }
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach(change -> change.accept(fresh));
+                segment = fresh;
+            } finally {
+                journal = null;
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    public long postingCount() {
+        return segment.postingCount;
+    }
+
+    public SearchHits search(PlacementSearchCriteria criteria, LocalDate today) {
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return search(segment, criteria, today);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    private void apply(Consumer<Segment> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(segment);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private SearchHits search(Segment target, PlacementSearchCriteria criteria, LocalDate today) {
+        Map<Long, Float> scores = match(target, tokenize(criteria.getQ()));
+
+        Set<PlacementType> types = criteria.getType() == null || criteria.getType().isEmpty()
+                ? EnumSet.allOf(PlacementType.class)
+                : EnumSet.copyOf(criteria.getType());
+        Boolean open = parseStatus(criteria.getStatus());
+
+        // Each facet is counted with every filter applied except its own, so the
+        // client can show how many hits picking another value would give
+        Map<String, Long> typeFacet = new LinkedHashMap<>();
+        for (PlacementType type : PlacementType.values()) {
+            typeFacet.put(type.name(), 0L);
+        }
+        Map<String, Long> compensationFacet = new LinkedHashMap<>();
+        for (int i = 0; i < compensationBands.length; i++) {
+            compensationFacet.put(bandLabel(i), 0L);
+        }
+        Map<String, Long> driveMonthFacet = new TreeMap<>();
+        Map<String, Long> statusFacet = new LinkedHashMap<>();
+        statusFacet.put("OPEN", 0L);
+        statusFacet.put("CLOSED", 0L);
+
+        List<Map.Entry<PlacementDocument, Float>> matches = new ArrayList<>();
+        for (Map.Entry<Long, Float> scored : scores.entrySet()) {
+            PlacementDocument document = target.documents.get(scored.getKey());
+            boolean isOpen = !document.lastDateToApply().isBefore(today);
+
+            boolean typeOk = types.contains(document.type());
+            boolean compensationOk = (criteria.getMinCompensation() == null || document.compensation() >= criteria.getMinCompensation())
+                    && (criteria.getMaxCompensation() == null || document.compensation() <= criteria.getMaxCompensation());
+            boolean driveOk = (criteria.getDriveFrom() == null || !document.dateOfDrive().isBefore(criteria.getDriveFrom()))
+                    && (criteria.getDriveTo() == null || !document.dateOfDrive().isAfter(criteria.getDriveTo()));
+            boolean statusOk = open == null || open == isOpen;
+
+            if (compensationOk && driveOk && statusOk) {
+                typeFacet.merge(document.type().name(), 1L, Long::sum);
+            }
+            if (typeOk && driveOk && statusOk) {
+                compensationFacet.merge(bandLabel(band(document.compensation())), 1L, Long::sum);
+            }
+            if (typeOk && compensationOk && statusOk) {
+                driveMonthFacet.merge(YearMonth.from(document.dateOfDrive()).toString(), 1L, Long::sum);
+            }
+            if (typeOk && compensationOk && driveOk) {
+                statusFacet.merge(isOpen ? "OPEN" : "CLOSED", 1L, Long::sum);
+            }
+            if (typeOk && compensationOk && driveOk && statusOk) {
+                matches.add(Map.entry(document, scored.getValue()));
+            }
+        }
+
+        matches.sort(Comparator.<Map.Entry<PlacementDocument, Float>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparing(entry -> entry.getKey().datePosted(), Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(entry -> entry.getKey().id(), Comparator.reverseOrder()));
+
+        int from = (int) Math.min((long) criteria.getPage() * criteria.getSize(), matches.size());
+        int to = Math.min(from + criteria.getSize(), matches.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (Map.Entry<PlacementDocument, Float> match : matches.subList(from, to)) {
+            ids.add(match.getKey().id());
+        }
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("type", typeFacet);
+        facets.put("compensation", compensationFacet);
+        facets.put("dateOfDrive", driveMonthFacet);
+        facets.put("status", statusFacet);
+        return new SearchHits(ids, matches.size(), facets);
+    }
+
+    // Scores of the placements containing every term; all placements when there are no terms
+    private Map<Long, Float> match(Segment target, List<String> terms) {
+        Map<Long, Float> scores = new HashMap<>();
+        if (terms.isEmpty()) {
+            target.documents.keySet().forEach(id -> scores.put(id, 0f));
+            return scores;
+        }
+
+        List<Map<Long, Float>> termPostings = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            termPostings.add(i == terms.size() - 1
+                    ? target.prefixPostings(terms.get(i))
+                    : target.postings.getOrDefault(terms.get(i), Map.of()));
+        }
+        // Rarest term first keeps the candidate set small
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = target.documents.size();
+        for (int i = 0; i < termPostings.size(); i++) {
+            Map<Long, Float> postings = termPostings.get(i);
+            if (postings.isEmpty()) {
+                return Map.of();
+            }
+            float idf = (float) Math.log(1 + (double) documentCount / postings.size());
+            if (i == 0) {
+                postings.forEach((id, weight) -> scores.put(id, weight * idf));
+                continue;
+            }
+            Iterator<Map.Entry<Long, Float>> candidates = scores.entrySet().iterator();
+            while (candidates.hasNext()) {
+                Map.Entry<Long, Float> candidate = candidates.next();
+                Float weight = postings.get(candidate.getKey());
+                if (weight == null) {
+                    candidates.remove();
+                } else {
+                    candidate.setValue(candidate.getValue() + weight * idf);
+                }
+            }
+            if (scores.isEmpty()) {
+                return scores;
+            }
+        }
+        return scores;
+    }
+
+    private static Boolean parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        return switch (status.trim().toUpperCase(Locale.ROOT)) {
+            case "OPEN" -> true;
+            case "CLOSED" -> false;
+            default -> throw new IllegalArgumentException("status must be OPEN or CLOSED");
+        };
+    }
+
+    private int band(double compensation) {
+        int band = Arrays.binarySearch(compensationBands, compensation);
+        band = band >= 0 ? band : -band - 2;
+        return Math.max(band, 0);
+    }
+
+    private String bandLabel(int band) {
+        String lower = formatBound(compensationBands[band]);
+        return band == compensationBands.length - 1
+                ? lower + "+"
+                : lower + "-" + formatBound(compensationBands[band + 1]);
+    }
+
+    private static String formatBound(double bound) {
+        return bound == Math.rint(bound) ? String.valueOf((long) bound) : String.valueOf(bound);
+    }
+
+    private static PlacementDocument toDocument(Placement placement) {
+        return new PlacementDocument(
+                placement.getId(),
+                placement.getType(),
+                placement.getCompensation() == null ? 0 : placement.getCompensation(),
+                placement.getDateOfDrive(),
+                placement.getLastDateToApply(),
+                placement.getDatePosted());
+    }
+
+    private static Map<String, Float> termWeights(Placement placement) {
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, placement.getTitle(), TITLE_WEIGHT);
+        addTerms(weights, placement.getRole(), ROLE_WEIGHT);
+        addTerms(weights, placement.getDescription(), DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private static final class Segment {
+        private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+        private final Map<Long, PlacementDocument> documents = new HashMap<>();
+        private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+        private long postingCount;
+
+        void upsert(PlacementDocument document, Map<String, Float> termWeights) {
+            remove(document.id());
+            documents.put(document.id(), document);
+            documentTerms.put(document.id(), termWeights.keySet());
+            termWeights.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), weight));
+            postingCount += termWeights.size();
+        }
+
+        void remove(Long id) {
+            documents.remove(id);
+            Set<String> terms = documentTerms.remove(id);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Float> termPostings = postings.get(term);
+                termPostings.remove(id);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            postingCount -= terms.size();
+        }
+
+        // Postings of every term starting with prefix, keeping the best weight per placement
+        Map<Long, Float> prefixPostings(String prefix) {
+            Map<Long, Float> exact = postings.get(prefix);
+            SortedMap<String, Map<Long, Float>> range = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+            if (range.size() == 1 && exact != null) {
+                return exact;
+            }
+            Map<Long, Float> merged = new HashMap<>();
+            for (Map<Long, Float> termPostings : range.values()) {
+                termPostings.forEach((id, weight) -> merged.merge(id, weight, Math::max));
+            }
+            return merged;
+        }
+    }
+}
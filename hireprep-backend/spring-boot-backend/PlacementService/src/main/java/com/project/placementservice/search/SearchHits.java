@@ -0,0 +1,11 @@
+package com.project.placementservice.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of matching placement ids in rank order, the total number of matches
+ * and the facet counts for the whole result set
+ */
+public record SearchHits(List<Long> ids, long total, Map<String, Map<String, Long>> facets) {
+}
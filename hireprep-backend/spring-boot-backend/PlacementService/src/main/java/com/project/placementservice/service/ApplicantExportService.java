@@ -0,0 +1,183 @@
+package com.project.placementservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.placementservice.DTO.ApplicantDTO;
+import com.project.placementservice.DTO.ApplicantExportRow;
+import com.project.placementservice.DTO.ApplicantProfileDTO;
+import com.project.placementservice.client.ProfileServiceClient;
+import com.project.placementservice.client.ProfileServiceUnavailableException;
+import com.project.placementservice.repository.ApplicationRepository;
+import com.project.placementservice.repository.PlacementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a placement's applicants as CSV or NDJSON. Applicants are read in keyset pages,
+ * each page is enriched with one Profile Service request and flushed before the next is
+ * read, so memory stays flat however large the drive is.
+ */
+@Service
+@Slf4j
+public class ApplicantExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "applicationId,studentUsername,firstName,lastName,email," +
+            "phoneNumber,latestCgpa,status,appliedAt";
+    // Leading characters that make a spreadsheet treat a cell as a formula
+    private static final String FORMULA_START = "=+-@\t\r";
+
+    public enum Format {
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("format must be csv or ndjson");
+            }
+        }
+    }
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private ProfileServiceClient profileServiceClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void checkPlacementExists(Long placementId) {
+        if (!placementRepository.existsById(placementId)) {
+            throw new RuntimeException("Placement not found");
+        }
+    }
+
+    public void export(Long placementId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+        // First bytes go out before any query runs
+        writer.flush();
+
+        boolean profilesAvailable = true;
+        long afterId = 0;
+        List<ApplicantDTO> page;
+        do {
+            page = applicationRepository.findApplicantsAfter(placementId, afterId, Limit.of(CHUNK_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<String, ApplicantProfileDTO> profiles = Map.of();
+            if (profilesAvailable) {
+                try {
+                    profiles = profileServiceClient.getApplicantProfiles(
+                                    page.stream().map(ApplicantDTO::getStudentUsername).toList()).stream()
+                            .collect(Collectors.toMap(ApplicantProfileDTO::getUsername, Function.identity(), (a, b) -> a));
+                } catch (ProfileServiceUnavailableException | RestClientException e) {
+                    // The export still completes, without profile columns from here on
+                    log.warn("Profile Service unavailable during export of placement {}: {}", placementId, e.getMessage());
+                    profilesAvailable = false;
+                }
+            }
+
+            for (ApplicantDTO applicant : page) {
+                ApplicantExportRow row = toRow(applicant, profiles.get(applicant.getStudentUsername()));
+                if (format == Format.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+            afterId = page.get(page.size() - 1).getId();
+        } while (page.size() == CHUNK_SIZE);
+        writer.flush();
+    }
+
+    private ApplicantExportRow toRow(ApplicantDTO applicant, ApplicantProfileDTO profile) {
+        ApplicantExportRow row = new ApplicantExportRow();
+        row.setApplicationId(applicant.getId());
+        row.setStudentUsername(applicant.getStudentUsername());
+        row.setStatus(applicant.getStatus());
+        row.setAppliedAt(applicant.getAppliedAt());
+        if (profile != null) {
+            row.setFirstName(profile.getFirstName());
+            row.setLastName(profile.getLastName());
+            row.setEmail(profile.getEmail());
+            row.setPhoneNumber(profile.getPhoneNumber());
+            row.setLatestCgpa(profile.getLatestCgpa());
+        }
+        return row;
+    }
+
+    private void writeCsv(Writer writer, ApplicantExportRow row) throws IOException {
+        writer.write(String.join(",",
+                csv(row.getApplicationId()),
+                csv(row.getStudentUsername()),
+                csv(row.getFirstName()),
+                csv(row.getLastName()),
+                csv(row.getEmail()),
+                csv(row.getPhoneNumber()),
+                csv(row.getLatestCgpa()),
+                csv(row.getStatus()),
+                csv(row.getAppliedAt())));
+        writer.write("\r\n");
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Exports are opened in spreadsheets: keep text from being read as a formula (OWASP CSV
+        // injection). Only typed numbers (applicationId, latestCgpa) may start with a sign.
+        if (!(value instanceof Number) && !text.isEmpty() && FORMULA_START.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            text = "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.repository.PlacementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps placement.total_applications honest. The apply path increments it atomically;
+ * this job recounts from application rows to repair drift from out-of-band changes.
+ */
+@Service
+@Slf4j
+public class ApplicationCountService {
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Scheduled(cron = "${placement.application-count.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public int reconcile() {
+        int corrected = placementRepository.reconcileTotalApplications();
+        log.info("Reconciled application counts, {} placements corrected", corrected);
+        return corrected;
+    }
+}
@@ -0,0 +1,168 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.DTO.ApplicationStatusRow;
+import com.project.placementservice.DTO.BulkStatusUpdateResultDTO;
+import com.project.placementservice.DTO.StatusTransitionResultDTO;
+import com.project.placementservice.DTO.StatusTransitionResultDTO.Outcome;
+import com.project.placementservice.model.ApplicationStatus;
+import com.project.placementservice.repository.ApplicationRepository;
+import com.project.placementservice.repository.PlacementRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk status transitions for one placement's applications. Input is handled in chunks:
+ * one query reads the chunk's current statuses and one guarded UPDATE moves every row the
+ * state machine allows (see ApplicationStatus). Rows that cannot move are reported, not
+ * failed; the whole request commits as one transaction.
+ */
+@Service
+public class ApplicationStatusService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Transactional
+    public BulkStatusUpdateResultDTO transitionByIds(Long placementId, List<Long> applicationIds, ApplicationStatus target) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            throw new IllegalArgumentException("applicationIds is required");
+        }
+        BulkStatusUpdateResultDTO result = newResult(placementId, target);
+
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            transitionChunk(placementId, chunk, applicationRepository.findStatusRowsByIds(placementId, chunk),
+                    ApplicationStatusRow::getId,
+                    id -> new StatusTransitionResultDTO(id, null, null, Outcome.NOT_FOUND),
+                    target, result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads student usernames from the first column of a CSV stream (an optional
+     * "username" header line is skipped) and transitions their applications chunk by chunk
+     * while reading.
+     */
+    @Transactional
+    public BulkStatusUpdateResultDTO transitionByUsernames(Long placementId, Reader csv, ApplicationStatus target)
+            throws IOException {
+        BulkStatusUpdateResultDTO result = newResult(placementId, target);
+
+        BufferedReader reader = new BufferedReader(csv);
+        Set<String> seen = new HashSet<>();
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        boolean firstLine = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String username = firstColumn(line);
+            if (firstLine) {
+                firstLine = false;
+                if (username.equalsIgnoreCase("username") || username.equalsIgnoreCase("studentUsername")) {
+                    continue;
+                }
+            }
+            if (username.isEmpty() || !seen.add(username)) {
+                continue;
+            }
+            chunk.add(username);
+            if (chunk.size() == CHUNK_SIZE) {
+                transitionUsernames(placementId, chunk, target, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            transitionUsernames(placementId, chunk, target, result);
+        }
+        if (seen.isEmpty()) {
+            throw new IllegalArgumentException("CSV contains no usernames");
+        }
+        return result;
+    }
+
+    private void transitionUsernames(Long placementId, List<String> usernames, ApplicationStatus target,
+                                     BulkStatusUpdateResultDTO result) {
+        transitionChunk(placementId, usernames,
+                applicationRepository.findStatusRowsByStudentUsernames(placementId, usernames),
+                ApplicationStatusRow::getStudentUsername,
+                username -> new StatusTransitionResultDTO(null, username, null, Outcome.NOT_FOUND),
+                target, result);
+    }
+
+    private <K> void transitionChunk(Long placementId, List<K> keys, List<ApplicationStatusRow> rows,
+                                     Function<ApplicationStatusRow, K> keyOf,
+                                     Function<K, StatusTransitionResultDTO> notFound,
+                                     ApplicationStatus target, BulkStatusUpdateResultDTO result) {
+        Map<K, ApplicationStatusRow> rowsByKey = rows.stream()
+                .collect(Collectors.toMap(keyOf, Function.identity()));
+        List<Long> movable = rows.stream()
+                .filter(row -> row.getStatus().canTransitionTo(target))
+                .map(ApplicationStatusRow::getId)
+                .toList();
+        Set<Long> moved = moveAll(placementId, movable, target);
+
+        for (K key : keys) {
+            ApplicationStatusRow row = rowsByKey.get(key);
+            if (row == null) {
+                result.add(notFound.apply(key));
+                continue;
+            }
+            Outcome outcome = moved.contains(row.getId()) ? Outcome.UPDATED
+                    : row.getStatus() == target ? Outcome.UNCHANGED
+                    : Outcome.INVALID_TRANSITION;
+            result.add(new StatusTransitionResultDTO(row.getId(), row.getStudentUsername(), row.getStatus(), outcome));
+        }
+    }
+
+    // Returns the ids now in the target status
+    private Set<Long> moveAll(Long placementId, List<Long> ids, ApplicationStatus target) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        int updated = applicationRepository.updateStatus(ids, ApplicationStatus.sourcesOf(target), target);
+        if (updated == ids.size()) {
+            return new HashSet<>(ids);
+        }
+        // Some rows changed status between the read and the update; keep the ones that moved
+        return applicationRepository.findStatusRowsByIds(placementId, ids).stream()
+                .filter(row -> row.getStatus() == target)
+                .map(ApplicationStatusRow::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private BulkStatusUpdateResultDTO newResult(Long placementId, ApplicationStatus target) {
+        if (target == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        if (!placementRepository.existsById(placementId)) {
+            throw new RuntimeException("Placement not found");
+        }
+        BulkStatusUpdateResultDTO result = new BulkStatusUpdateResultDTO();
+        result.setPlacementId(placementId);
+        result.setStatus(target);
+        return result;
+    }
+
+    private static String firstColumn(String line) {
+        int comma = line.indexOf(',');
+        String value = (comma >= 0 ? line.substring(0, comma) : line).replace("\uFEFF", "").trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+}
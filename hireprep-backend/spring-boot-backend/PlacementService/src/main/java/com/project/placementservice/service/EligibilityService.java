@@ -0,0 +1,120 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.DTO.StudentEducationDTO;
+import com.project.placementservice.client.ProfileServiceClient;
+import com.project.placementservice.client.ProfileServiceUnavailableException;
+import com.project.placementservice.eligibility.EligibilityMatcher;
+import com.project.placementservice.event.PlacementChangedEvent;
+import com.project.placementservice.model.Placement;
+import com.project.placementservice.repository.EligibleStudentRepository;
+import com.project.placementservice.repository.PlacementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClientException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains placement_eligible_student, the precomputed list of students who meet each
+ * restricted placement's rules, so listing and apply only do an indexed lookup.
+ * <p>
+ * A placement is re-matched against all students after it is created or updated; a student
+ * is re-matched against open restricted placements when Profile Service reports a profile
+ * change. The nightly rebuild repairs anything missed while Profile Service was unreachable.
+ */
+@Service
+@Slf4j
+public class EligibilityService {
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private EligibleStudentRepository eligibleStudentRepository;
+
+    @Autowired
+    private ProfileServiceClient profileServiceClient;
+
+    @Autowired
+    private EligibilityMatcher eligibilityMatcher;
+
+    @Async
+    @TransactionalEventListener
+    public void onPlacementChanged(PlacementChangedEvent event) {
+        // A deleted placement's rows go with it (ON DELETE CASCADE)
+        if (event.getPlacement() == null) {
+            return;
+        }
+        try {
+            refreshPlacement(event.getPlacement());
+        } catch (ProfileServiceUnavailableException | RestClientException e) {
+            log.warn("Unable to match placement {} against students, left for the nightly rebuild: {}",
+                    event.getPlacementId(), e.getMessage());
+        }
+    }
+
+    public int refreshPlacement(Placement placement) {
+        if (!placement.getEligibilityRestricted()) {
+            eligibleStudentRepository.replaceForPlacement(placement.getId(), List.of());
+            return 0;
+        }
+        List<String> eligible = eligibleStudents(placement, profileServiceClient.getAllStudentEducation());
+        eligibleStudentRepository.replaceForPlacement(placement.getId(), eligible);
+        return eligible.size();
+    }
+
+    /**
+     * Re-matches one student against the open restricted placements. A missing or
+     * non-student profile clears the student's rows.
+     */
+    public void refreshStudent(String username) {
+        List<Placement> placements = placementRepository
+                .findByEligibilityRestrictedTrueAndLastDateToApplyGreaterThanEqual(LocalDate.now());
+        List<Long> eligible = profileServiceClient.getStudentEducation(username)
+                .map(student -> placements.stream()
+                        .filter(placement -> eligibilityMatcher.matches(placement, student))
+                        .map(Placement::getId)
+                        .toList())
+                .orElse(List.of());
+        eligibleStudentRepository.replaceForStudent(username, eligible);
+    }
+
+    @Scheduled(cron = "${placement.eligibility.rebuild-cron:0 0 4 * * *}")
+    public int rebuild() {
+        List<Placement> placements = placementRepository
+                .findByEligibilityRestrictedTrueAndLastDateToApplyGreaterThanEqual(LocalDate.now());
+        if (placements.isEmpty()) {
+            return 0;
+        }
+        List<StudentEducationDTO> students = profileServiceClient.getAllStudentEducation();
+        int rows = 0;
+        for (Placement placement : placements) {
+            List<String> eligible = eligibleStudents(placement, students);
+            eligibleStudentRepository.replaceForPlacement(placement.getId(), eligible);
+            rows += eligible.size();
+        }
+        log.info("Rebuilt eligibility for {} placements, {} eligible students", placements.size(), rows);
+        return rows;
+    }
+
+    public List<String> getEligibleStudents(Long placementId) {
+        Placement placement = placementRepository.findById(placementId)
+                .orElseThrow(() -> new RuntimeException("Placement not found"));
+        if (!placement.getEligibilityRestricted()) {
+            throw new IllegalArgumentException("Placement has no eligibility rules; every student is eligible");
+        }
+        return eligibleStudentRepository.findStudentUsernamesByPlacementId(placementId);
+    }
+
+    private List<String> eligibleStudents(Placement placement, List<StudentEducationDTO> students) {
+        return students.stream()
+                .filter(student -> eligibilityMatcher.matches(placement, student))
+                .map(StudentEducationDTO::getUsername)
+                .toList();
+    }
+}
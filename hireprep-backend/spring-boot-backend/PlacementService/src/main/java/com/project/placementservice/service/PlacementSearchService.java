@@ -0,0 +1,86 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.DTO.PlacementResponseDTO;
+import com.project.placementservice.DTO.PlacementSearchCriteria;
+import com.project.placementservice.DTO.PlacementSearchResultDTO;
+import com.project.placementservice.event.PlacementChangedEvent;
+import com.project.placementservice.mapper.PlacementMapper;
+import com.project.placementservice.repository.PlacementRepository;
+import com.project.placementservice.search.PlacementSearchIndex;
+import com.project.placementservice.search.SearchHits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Placement search over the in-process index. The index is loaded before the service
+ * takes traffic and then follows committed placement changes; the optional rebuild
+ * cron picks up changes made by other instances or directly in the database.
+ */
+@Service
+@Slf4j
+public class PlacementSearchService implements SmartInitializingSingleton {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private PlacementSearchIndex searchIndex;
+
+    @Autowired
+    private PlacementRepository placementRepository;
+
+    @Autowired
+    private PlacementMapper placementMapper;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuildIndex();
+    }
+
+    @Scheduled(cron = "${placement.search.rebuild-cron:-}")
+    public void rebuildIndex() {
+        searchIndex.rebuild(placementRepository::findAll);
+        log.info("Placement search index built, {} placements, {} postings",
+                searchIndex.size(), searchIndex.postingCount());
+    }
+
+    @TransactionalEventListener
+    public void onPlacementChanged(PlacementChangedEvent event) {
+        if (event.getPlacement() == null) {
+            searchIndex.remove(event.getPlacementId());
+        } else {
+            searchIndex.index(event.getPlacement());
+        }
+    }
+
+    public PlacementSearchResultDTO search(PlacementSearchCriteria criteria, String studentUsername) {
+        if (criteria.getPage() < 0 || criteria.getSize() < 1 || criteria.getSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        SearchHits hits = searchIndex.search(criteria, LocalDate.now());
+
+        // Only the requested page is read from the database, then put back in rank order
+        Map<Long, PlacementResponseDTO> byId = hits.ids().isEmpty()
+                ? Map.of()
+                : placementRepository.findWithStatsByIdIn(hits.ids(), studentUsername).stream()
+                        .map(placementMapper::toDTO)
+                        .collect(Collectors.toMap(PlacementResponseDTO::getId, Function.identity()));
+        List<PlacementResponseDTO> placements = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PlacementSearchResultDTO(hits.total(), criteria.getPage(), criteria.getSize(),
+                placements, hits.facets());
+    }
+}
@@ -1,8 +1,11 @@
 package com.project.placementservice.service;
 
-import com.project.placementservice.DTO.ApplicationResponseDTO;
+import com.project.placementservice.DTO.ApplyResult;
+import com.project.placementservice.DTO.PlacementApplicantsDTO;
 import com.project.placementservice.DTO.PlacementRequestDTO;
 import com.project.placementservice.DTO.PlacementResponseDTO;
+import com.project.placementservice.DTO.StudentApplicationDTO;
+import com.project.placementservice.event.PlacementChangedEvent;
 import com.project.placementservice.mapper.ApplicationMapper;
 import com.project.placementservice.mapper.PlacementMapper;
 import com.project.placementservice.model.Application;
@@ -10,11 +13,14 @@ import com.project.placementservice.model.Placement;
 import com.project.placementservice.repository.ApplicationRepository;
 import com.project.placementservice.repository.PlacementRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,87 +38,100 @@ public class PlacementService {
     @Autowired
     private ApplicationMapper applicationMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public PlacementResponseDTO createPlacement(PlacementRequestDTO dto) {
         Placement placement = placementMapper.toEntity(dto);
         Placement saved = placementRepository.save(placement);
+        eventPublisher.publishEvent(new PlacementChangedEvent(saved.getId(), saved));
         return placementMapper.toDTO(saved, 0, false);
     }
 
     public List<PlacementResponseDTO> getAllPlacements(String studentUsername) {
-        List<Placement> placements = placementRepository.findAllByOrderByDatePostedDesc();
-        return placements.stream()
-                .map(p -> {
-                    int totalApps = applicationRepository.countByPlacementId(p.getId());
-                    boolean hasApplied = studentUsername != null &&
-                            applicationRepository.existsByPlacementIdAndStudentUsername(p.getId(), studentUsername);
-                    return placementMapper.toDTO(p, totalApps, hasApplied);
-                })
+        return placementRepository.findAllWithStats(studentUsername).stream()
+                .map(placementMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public List<PlacementResponseDTO> getAvailablePlacements(String studentUsername) {
-        List<Placement> placements = placementRepository
-                .findByLastDateToApplyGreaterThanEqualOrderByDatePostedDesc(LocalDate.now());
-
-        return placements.stream()
-                .filter(p -> !applicationRepository.existsByPlacementIdAndStudentUsername(p.getId(), studentUsername))
-                .map(p -> {
-                    int totalApps = applicationRepository.countByPlacementId(p.getId());
-                    return placementMapper.toDTO(p, totalApps, false);
-                })
+        return placementRepository.findAvailableWithStats(LocalDate.now(), studentUsername).stream()
+                .map(placementMapper::toDTO)
                 .collect(Collectors.toList());
     }
 
     public PlacementResponseDTO getPlacementById(Long id, String studentUsername) {
-        Placement placement = placementRepository.findById(id)
+        return placementRepository.findByIdWithStats(id, studentUsername)
+                .map(placementMapper::toDTO)
                 .orElseThrow(() -> new RuntimeException("Placement not found"));
-
-        int totalApps = applicationRepository.countByPlacementId(id);
-        boolean hasApplied = studentUsername != null &&
-                applicationRepository.existsByPlacementIdAndStudentUsername(id, studentUsername);
-
-        return placementMapper.toDTO(placement, totalApps, hasApplied);
     }
 
+    /**
+     * Idempotent apply. A repeat apply by the same student, or a replayed idempotency key,
+     * returns the existing application instead of failing; concurrent applies never surface
+     * constraint violations.
+     */
     @Transactional
-    public ApplicationResponseDTO applyForPlacement(Long placementId, String studentUsername) {
-        Placement placement = placementRepository.findById(placementId)
-                .orElseThrow(() -> new RuntimeException("Placement not found"));
+    public ApplyResult applyForPlacement(Long placementId, String studentUsername, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<Application> replayed = applicationRepository.findByIdempotencyKey(idempotencyKey);
+            if (replayed.isPresent()) {
+                return replay(replayed.get(), placementId, studentUsername);
+            }
+        }
 
-        if (LocalDate.now().isAfter(placement.getLastDateToApply())) {
-            throw new RuntimeException("Application deadline has passed");
+        int inserted = applicationRepository.insertIfOpen(
+                placementId, studentUsername, LocalDateTime.now(), LocalDate.now(), idempotencyKey);
+        if (inserted == 1) {
+            placementRepository.incrementTotalApplications(placementId);
         }
 
-        if (applicationRepository.existsByPlacementIdAndStudentUsername(placementId, studentUsername)) {
-            throw new RuntimeException("Already applied for this placement");
+        Optional<Application> existing = applicationRepository.findByPlacementIdAndStudentUsername(placementId, studentUsername);
+        if (existing.isPresent()) {
+            return new ApplyResult(applicationMapper.toDTO(existing.get()), inserted == 1);
         }
 
-        Application application = new Application();
-        application.setPlacement(placement);
-        application.setStudentUsername(studentUsername);
+        // Nothing inserted and no application for this student: the key lost a race,
+        // the placement is missing or closed, or the student is not eligible
+        if (idempotencyKey != null) {
+            Optional<Application> replayed = applicationRepository.findByIdempotencyKey(idempotencyKey);
+            if (replayed.isPresent()) {
+                return replay(replayed.get(), placementId, studentUsername);
+            }
+        }
+        Placement placement = placementRepository.findById(placementId)
+                .orElseThrow(() -> new RuntimeException("Placement not found"));
+        if (placement.getLastDateToApply().isBefore(LocalDate.now())) {
+            throw new RuntimeException("Application deadline has passed");
+        }
+        throw new RuntimeException("Student is not eligible for this placement");
+    }
 
-        Application saved = applicationRepository.save(application);
-        return applicationMapper.toDTO(saved);
+    public List<StudentApplicationDTO> getStudentApplications(String studentUsername) {
+        return applicationRepository.findSummariesByStudentUsername(studentUsername);
     }
 
-    public List<ApplicationResponseDTO> getStudentApplications(String studentUsername) {
-        List<Application> applications = applicationRepository.findByStudentUsername(studentUsername);
-        return applications.stream()
-                .map(applicationMapper::toDTO)
-                .collect(Collectors.toList());
+    public PlacementApplicantsDTO getPlacementApplications(Long placementId) {
+        Placement placement = placementRepository.findById(placementId)
+                .orElseThrow(() -> new RuntimeException("Placement not found"));
+        return new PlacementApplicantsDTO(
+                placementMapper.toDTO(placement, placement.getTotalApplications(), null),
+                applicationRepository.findApplicantsByPlacementId(placementId));
     }
 
-    public List<ApplicationResponseDTO> getPlacementApplications(Long placementId) {
-        List<Application> applications = applicationRepository.findByPlacementId(placementId);
-        return applications.stream()
-                .map(applicationMapper::toDTO)
-                .collect(Collectors.toList());
+    private ApplyResult replay(Application application, Long placementId, String studentUsername) {
+        if (!application.getPlacement().getId().equals(placementId)
+                || !application.getStudentUsername().equals(studentUsername)) {
+            throw new IllegalArgumentException("Idempotency key was already used for a different application");
+        }
+        return new ApplyResult(applicationMapper.toDTO(application), false);
     }
 
     @Transactional
     public void deletePlacement(Long id) {
         placementRepository.deleteById(id);
+        eventPublisher.publishEvent(new PlacementChangedEvent(id, null));
     }
 
     @Transactional
@@ -129,9 +148,10 @@ public class PlacementService {
         existing.setLastDateToApply(dto.getLastDateToApply());
         existing.setCompensation(dto.getCompensation());
         existing.setBond(dto.getBond());
+        placementMapper.applyEligibility(existing, dto);
 
         Placement updated = placementRepository.save(existing);
-        int totalApps = applicationRepository.countByPlacementId(id);
-        return placementMapper.toDTO(updated, totalApps, false);
+        eventPublisher.publishEvent(new PlacementChangedEvent(id, updated));
+        return placementMapper.toDTO(updated, updated.getTotalApplications(), false);
     }
 }
\ No newline at end of file
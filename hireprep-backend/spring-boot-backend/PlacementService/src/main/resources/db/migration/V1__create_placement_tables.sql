@@ -0,0 +1,36 @@
+CREATE TABLE IF NOT EXISTS placement (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title              VARCHAR(255)  NOT NULL,
+    role               VARCHAR(255)  NOT NULL,
+    experience         VARCHAR(255)  NOT NULL,
+    description        VARCHAR(2000) NOT NULL,
+    type               VARCHAR(255)  NOT NULL,
+    date_posted        DATE          NOT NULL,
+    date_of_drive      DATE          NOT NULL,
+    last_date_to_apply DATE          NOT NULL,
+    compensation       FLOAT(53)     NOT NULL,
+    bond               VARCHAR(255),
+    posted_by_username VARCHAR(255)  NOT NULL
+);
+
+-- Listings are ordered by date_posted; available drives filter on last_date_to_apply
+CREATE INDEX IF NOT EXISTS idx_placement_date_posted
+    ON placement (date_posted DESC);
+CREATE INDEX IF NOT EXISTS idx_placement_last_date_to_apply
+    ON placement (last_date_to_apply);
+CREATE INDEX IF NOT EXISTS idx_placement_posted_by
+    ON placement (posted_by_username);
+
+CREATE TABLE IF NOT EXISTS application (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    placement_id     BIGINT       NOT NULL REFERENCES placement (id),
+    student_username VARCHAR(255) NOT NULL,
+    applied_at       TIMESTAMP(6) NOT NULL,
+    status           VARCHAR(255) NOT NULL
+);
+
+-- One application per student per placement; also serves lookups and counts by placement_id
+CREATE UNIQUE INDEX IF NOT EXISTS uk_application_placement_student
+    ON application (placement_id, student_username);
+CREATE INDEX IF NOT EXISTS idx_application_student
+    ON application (student_username);
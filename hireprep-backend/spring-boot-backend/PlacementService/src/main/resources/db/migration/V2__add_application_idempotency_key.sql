@@ -0,0 +1,5 @@
+-- Client-supplied key that lets a retried apply return the original application
+ALTER TABLE application ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(255);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_application_idempotency_key
+    ON application (idempotency_key);
@@ -0,0 +1,5 @@
+-- Denormalized application count, maintained by the apply path and reconciled nightly
+ALTER TABLE placement ADD COLUMN IF NOT EXISTS total_applications INTEGER NOT NULL DEFAULT 0;
+
+UPDATE placement p
+SET total_applications = (SELECT COUNT(*) FROM application a WHERE a.placement_id = p.id);
@@ -0,0 +1,26 @@
+-- Eligibility rules: an experience flag on the placement and per education level criteria
+ALTER TABLE placement ADD COLUMN IF NOT EXISTS experience_required BOOLEAN NOT NULL DEFAULT FALSE;
+-- True when the placement has any rule; unrestricted placements skip the eligibility lookup
+ALTER TABLE placement ADD COLUMN IF NOT EXISTS eligibility_restricted BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE TABLE IF NOT EXISTS placement_eligibility_criterion (
+    placement_id         BIGINT       NOT NULL REFERENCES placement (id) ON DELETE CASCADE,
+    level                VARCHAR(255) NOT NULL,
+    min_cgpa             FLOAT(53),
+    min_percentage       FLOAT(53),
+    completion_year_from INTEGER,
+    completion_year_to   INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_placement_eligibility_criterion_placement
+    ON placement_eligibility_criterion (placement_id);
+
+-- Precomputed matches of restricted placements against student education
+CREATE TABLE IF NOT EXISTS placement_eligible_student (
+    placement_id     BIGINT       NOT NULL REFERENCES placement (id) ON DELETE CASCADE,
+    student_username VARCHAR(255) NOT NULL,
+    PRIMARY KEY (placement_id, student_username)
+);
+
+CREATE INDEX IF NOT EXISTS idx_placement_eligible_student_username
+    ON placement_eligible_student (student_username);
@@ -0,0 +1,143 @@
+package com.project.placementservice.search;
+
+import com.project.placementservice.DTO.PlacementSearchCriteria;
+import com.project.placementservice.model.Placement;
+import com.project.placementservice.model.PlacementType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency of the in-process index at production-like size, without a Spring context.
+ * Placements get titles and roles from a small job vocabulary and descriptions drawn from a
+ * long-tailed vocabulary, so common words have long posting lists and prefixes fan out over
+ * many terms. Every query group must keep its p99 under 10 ms. Run with mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class PlacementSearchIndexBenchmarkTest {
+
+    private static final int PLACEMENTS = 3_000;
+    private static final int DESCRIPTION_WORDS = 30;
+    private static final int LONG_TAIL_WORDS = 5_000;
+    private static final long MIN_POSTINGS = 50_000;
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 1_000;
+    private static final double MAX_P99_MS = 10.0;
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private static final String[] TITLES = {"Software Engineer", "Backend Developer", "Frontend Developer",
+            "Data Scientist", "Data Analyst", "DevOps Engineer", "Machine Learning Engineer", "QA Engineer",
+            "Product Manager", "Cloud Architect", "Full Stack Developer", "Security Analyst"};
+    private static final String[] SKILLS = {"java", "spring", "python", "django", "react", "angular", "node",
+            "kubernetes", "docker", "aws", "azure", "sql", "postgresql", "kafka", "spark", "tensorflow",
+            "pytorch", "c++", "c#", "golang", "rust", "typescript", "javascript", "linux", "terraform"};
+
+    @Test
+    void p99StaysUnderTenMillisAtFiftyThousandPostings() {
+        PlacementSearchIndex index = buildIndex();
+        System.out.printf("%nindex: %d placements, %d postings%n", index.size(), index.postingCount());
+        assertThat(index.postingCount()).isGreaterThanOrEqualTo(MIN_POSTINGS);
+
+        Map<String, List<PlacementSearchCriteria>> groups = new LinkedHashMap<>();
+        groups.put("word", List.of(
+                criteria("engineer"), criteria("java developer"), criteria("data scientist python"),
+                criteria("kubernetes"), criteria("w42 w7")));
+        groups.put("prefix", List.of(
+                criteria("j"), criteria("s"), criteria("dev"), criteria("software eng"), criteria("w1")));
+        groups.put("facet-filtered", List.of(
+                filtered(null, PlacementType.FULLTIME, 500_000.0, "OPEN"),
+                filtered("engineer", PlacementType.INTERNSHIP, null, "OPEN"),
+                filtered("developer java", PlacementType.FULLTIME, 100_000.0, null),
+                filtered("d", null, 25_000.0, "CLOSED"),
+                driveWindow(filtered(null, null, null, null))));
+
+        System.out.printf("%-16s %10s %10s %10s%n", "queries", "p50 ms", "p99 ms", "max ms");
+        groups.forEach((group, queries) -> {
+            for (int run = 0; run < WARMUP_RUNS; run++) {
+                queries.forEach(query -> index.search(query, TODAY));
+            }
+            long[] nanos = new long[MEASURED_RUNS * queries.size()];
+            int n = 0;
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                for (PlacementSearchCriteria query : queries) {
+                    long start = System.nanoTime();
+                    SearchHits hits = index.search(query, TODAY);
+                    nanos[n++] = System.nanoTime() - start;
+                    assertThat(hits.total()).isNotNegative();
+                }
+            }
+            Arrays.sort(nanos);
+            double p99 = nanos[nanos.length * 99 / 100] / 1e6;
+            System.out.printf("%-16s %10.3f %10.3f %10.3f%n", group,
+                    nanos[nanos.length / 2] / 1e6, p99, nanos[nanos.length - 1] / 1e6);
+            assertThat(p99).as(group).isLessThan(MAX_P99_MS);
+        });
+
+        // The queries above must actually match something, or the timings prove nothing
+        assertThat(index.search(criteria("java developer"), TODAY).total()).isPositive();
+        assertThat(index.search(criteria("w1"), TODAY).total()).isPositive();
+    }
+
+    private static PlacementSearchIndex buildIndex() {
+        Random random = new Random(42);
+        List<Placement> placements = new ArrayList<>(PLACEMENTS);
+        for (long id = 1; id <= PLACEMENTS; id++) {
+            Placement placement = new Placement();
+            placement.setId(id);
+            placement.setTitle(TITLES[random.nextInt(TITLES.length)]);
+            placement.setRole(TITLES[random.nextInt(TITLES.length)] + " " + SKILLS[random.nextInt(SKILLS.length)]);
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < DESCRIPTION_WORDS; w++) {
+                // Skewed towards the head of the vocabulary, like real text
+                description.append(random.nextInt(3) == 0
+                        ? SKILLS[random.nextInt(SKILLS.length)]
+                        : "w" + (int) (Math.pow(random.nextDouble(), 2) * LONG_TAIL_WORDS)).append(' ');
+            }
+            placement.setDescription(description.toString());
+            placement.setType(random.nextBoolean() ? PlacementType.FULLTIME : PlacementType.INTERNSHIP);
+            placement.setCompensation((double) random.nextInt(2_000_000));
+            placement.setDatePosted(TODAY.minusDays(random.nextInt(365)));
+            placement.setDateOfDrive(TODAY.plusDays(random.nextInt(365) - 180));
+            placement.setLastDateToApply(placement.getDateOfDrive().minusDays(7));
+            placements.add(placement);
+        }
+
+        PlacementSearchIndex index = new PlacementSearchIndex(
+                new double[]{0, 25_000, 100_000, 500_000, 1_000_000}, new SimpleMeterRegistry());
+        index.rebuild(() -> placements);
+        return index;
+    }
+
+    private static PlacementSearchCriteria criteria(String q) {
+        PlacementSearchCriteria criteria = new PlacementSearchCriteria();
+        criteria.setQ(q);
+        return criteria;
+    }
+
+    private static PlacementSearchCriteria filtered(String q, PlacementType type, Double minCompensation,
+                                                    String status) {
+        PlacementSearchCriteria criteria = criteria(q);
+        if (type != null) {
+            criteria.setType(List.of(type));
+        }
+        criteria.setMinCompensation(minCompensation);
+        criteria.setStatus(status);
+        return criteria;
+    }
+
+    private static PlacementSearchCriteria driveWindow(PlacementSearchCriteria criteria) {
+        criteria.setDriveFrom(TODAY.minusDays(30));
+        criteria.setDriveTo(TODAY.plusDays(60));
+        return criteria;
+    }
+}
@@ -0,0 +1,201 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.DTO.ApplyResult;
+import com.project.placementservice.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Parallel applies against real PostgreSQL, so the single-statement INSERT ... ON CONFLICT
+ * path runs as in production (H2 in PostgreSQL mode does not implement it the same way).
+ * Every student applies several times, some of them replaying an idempotency key, in random
+ * order across the worker threads; a second run spreads applies over a few placements so
+ * every insert contends on a total_applications counter row. Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest
+@Tag("benchmark")
+class ApplyConcurrencyBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int STUDENTS = 2_000;
+    private static final int APPLIES_PER_STUDENT = 5;
+    // Of each student's applies, this many carry the same idempotency key
+    private static final int KEYED_APPLIES_PER_STUDENT = 2;
+    private static final int THREADS = 32;
+    // Counter contention: every student applies once to each placement
+    private static final int PLACEMENTS = 5;
+
+    @Autowired
+    private PlacementService placementService;
+
+    @Autowired
+    private ApplicationCountService applicationCountService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long placementId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE application, placement_eligible_student, placement_eligibility_criterion, "
+                + "placement RESTART IDENTITY");
+        placementId = insertOpenPlacement("Stress drive");
+    }
+
+    @Test
+    void tenThousandParallelAppliesCreateExactlyOneApplicationPerStudent() throws Exception {
+        List<Apply> applies = new ArrayList<>();
+        for (int s = 1; s <= STUDENTS; s++) {
+            for (int a = 0; a < APPLIES_PER_STUDENT; a++) {
+                String key = a < KEYED_APPLIES_PER_STUDENT ? "apply-key-" + s : null;
+                applies.add(new Apply(placementId, "student" + s, key));
+            }
+        }
+        Collections.shuffle(applies);
+
+        Outcome outcome = runAll(applies);
+
+        System.out.printf("%n%d applies, %d threads: %d errors, %d created, %.0f ms%n",
+                applies.size(), THREADS, outcome.errors().size(), outcome.created(), outcome.millis());
+
+        assertThat(outcome.errors()).isEmpty();
+        assertThat(outcome.created()).isEqualTo(STUDENTS);
+        assertThat(countApplications(placementId)).isEqualTo(STUDENTS);
+        // Every apply by a student, keyed or not, was answered with the same application
+        assertThat(outcome.applicationIds()).hasSize(STUDENTS);
+        assertThat(outcome.applicationIds().values()).allSatisfy(ids -> assertThat(ids).hasSize(1));
+    }
+
+    @Test
+    void counterMatchesApplicationRowsUnderContention() throws Exception {
+        List<Long> placementIds = new ArrayList<>(List.of(placementId));
+        for (int p = 2; p <= PLACEMENTS; p++) {
+            placementIds.add(insertOpenPlacement("Contended drive " + p));
+        }
+        List<Apply> applies = new ArrayList<>();
+        for (int s = 1; s <= STUDENTS; s++) {
+            for (long id : placementIds) {
+                applies.add(new Apply(id, "student" + s, null));
+            }
+        }
+        Collections.shuffle(applies);
+
+        Outcome outcome = runAll(applies);
+
+        System.out.printf("%n%d applies over %d placement counters, %d threads: %d errors, %.0f ms%n",
+                applies.size(), PLACEMENTS, THREADS, outcome.errors().size(), outcome.millis());
+
+        assertThat(outcome.errors()).isEmpty();
+        assertThat(outcome.created()).isEqualTo(STUDENTS * PLACEMENTS);
+        // Tables start empty, so each placement holds exactly one row per student
+        for (long id : placementIds) {
+            int rows = countApplications(id);
+            assertThat(rows).isEqualTo(STUDENTS);
+            assertThat(totalApplications(id)).as("placement %d", id).isEqualTo(rows);
+        }
+        assertThat(applicationCountService.reconcile()).isZero();
+    }
+
+    private long insertOpenPlacement(String title) {
+        LocalDate today = LocalDate.now();
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO placement (title, role, experience, description, type, date_posted, date_of_drive,
+                                       last_date_to_apply, compensation, posted_by_username)
+                VALUES (?, 'Engineer', 'Fresher', 'Benchmark placement', 'FULLTIME', ?, ?, ?, 600000, 'faculty1')
+                RETURNING id
+                """, Long.class, title, today, today.plusDays(60), today.plusDays(30));
+    }
+
+    private int countApplications(long placementId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application WHERE placement_id = ?", Integer.class, placementId);
+    }
+
+    private int totalApplications(long placementId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT total_applications FROM placement WHERE id = ?", Integer.class, placementId);
+    }
+
+    private Outcome runAll(List<Apply> applies) throws Exception {
+        Queue work = new Queue(applies);
+        ConcurrentLinkedQueue<Exception> errors = new ConcurrentLinkedQueue<>();
+        AtomicInteger created = new AtomicInteger();
+        Map<String, Set<Long>> applicationIds = new ConcurrentHashMap<>();
+        double millis;
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    go.await();
+                    for (Apply apply = work.next(); apply != null; apply = work.next()) {
+                        try {
+                            ApplyResult result = placementService.applyForPlacement(
+                                    apply.placementId(), apply.studentUsername(), apply.idempotencyKey());
+                            if (result.isCreated()) {
+                                created.incrementAndGet();
+                            }
+                            applicationIds.computeIfAbsent(apply.placementId() + "|" + apply.studentUsername(),
+                                    k -> ConcurrentHashMap.newKeySet()).add(result.getApplication().getId());
+                        } catch (Exception e) {
+                            errors.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long start = System.nanoTime();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            millis = (System.nanoTime() - start) / 1_000_000.0;
+        } finally {
+            executor.shutdown();
+        }
+        return new Outcome(List.copyOf(errors), created.get(), applicationIds, millis);
+    }
+
+    private record Apply(long placementId, String studentUsername, String idempotencyKey) {
+    }
+
+    private record Outcome(List<Exception> errors, int created, Map<String, Set<Long>> applicationIds,
+                           double millis) {
+    }
+
+    // Hands out the shuffled applies to whichever worker is free
+    private static final class Queue {
+        private final List<Apply> applies;
+        private final AtomicInteger next = new AtomicInteger();
+
+        Queue(List<Apply> applies) {
+            this.applies = applies;
+        }
+
+        Apply next() {
+            int i = next.getAndIncrement();
+            return i < applies.size() ? applies.get(i) : null;
+        }
+    }
+}
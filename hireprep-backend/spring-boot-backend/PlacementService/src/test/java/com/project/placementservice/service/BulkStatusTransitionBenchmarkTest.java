@@ -0,0 +1,120 @@
+package com.project.placementservice.service;
+
+import com.project.placementservice.DTO.BulkStatusUpdateResultDTO;
+import com.project.placementservice.DTO.StatusTransitionResultDTO;
+import com.project.placementservice.DTO.StatusTransitionResultDTO.Outcome;
+import com.project.placementservice.PostgresIntegrationTest;
+import com.project.placementservice.model.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * One 10k-row bulk transition per input path (JSON application ids and a CSV of usernames).
+ * Every fifth application is already REJECTED, a final status, so a move to SHORTLISTED must
+ * update the other 8k and report the rest as INVALID_TRANSITION. Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest
+@Tag("benchmark")
+class BulkStatusTransitionBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int APPLICATIONS = 10_000;
+    private static final int REJECTED_EVERY = 5;
+    private static final int EXPECTED_REJECTED = APPLICATIONS / REJECTED_EVERY;
+    private static final int EXPECTED_UPDATED = APPLICATIONS - EXPECTED_REJECTED;
+
+    @Autowired
+    private ApplicationStatusService applicationStatusService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long placementId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE application, placement_eligible_student, placement_eligibility_criterion, "
+                + "placement RESTART IDENTITY");
+        LocalDate today = LocalDate.now();
+        placementId = jdbcTemplate.queryForObject("""
+                INSERT INTO placement (title, role, experience, description, type, date_posted, date_of_drive,
+                                       last_date_to_apply, compensation, posted_by_username, total_applications)
+                VALUES ('Bulk drive', 'Engineer', 'Fresher', 'Benchmark placement', 'FULLTIME', ?, ?, ?, 600000,
+                        'faculty1', ?)
+                RETURNING id
+                """, Long.class, today, today.plusDays(60), today.plusDays(30), APPLICATIONS);
+        jdbcTemplate.update("""
+                INSERT INTO application (placement_id, student_username, applied_at, status)
+                SELECT ?, 'student' || i, now(), CASE WHEN i % ? = 0 THEN 'REJECTED' ELSE 'APPLIED' END
+                FROM generate_series(1, ?) AS i
+                """, placementId, REJECTED_EVERY, APPLICATIONS);
+        jdbcTemplate.execute("VACUUM ANALYZE application");
+    }
+
+    @Test
+    void tenThousandTransitionsByApplicationId() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM application WHERE placement_id = ? ORDER BY id", Long.class, placementId);
+
+        long start = System.nanoTime();
+        BulkStatusUpdateResultDTO result =
+                applicationStatusService.transitionByIds(placementId, ids, ApplicationStatus.SHORTLISTED);
+        report("json ids", start);
+
+        assertTotals(result);
+    }
+
+    @Test
+    void tenThousandTransitionsByCsv() throws Exception {
+        StringBuilder csv = new StringBuilder("username,name\n");
+        for (int i = 1; i <= APPLICATIONS; i++) {
+            csv.append("student").append(i).append(",Student ").append(i).append('\n');
+        }
+
+        long start = System.nanoTime();
+        BulkStatusUpdateResultDTO result = applicationStatusService.transitionByUsernames(
+                placementId, new StringReader(csv.toString()), ApplicationStatus.SHORTLISTED);
+        report("csv usernames", start);
+
+        assertTotals(result);
+    }
+
+    private void assertTotals(BulkStatusUpdateResultDTO result) {
+        Map<Outcome, Long> outcomes = result.getResults().stream()
+                .collect(Collectors.groupingBy(StatusTransitionResultDTO::getOutcome, Collectors.counting()));
+
+        assertThat(result.getResults()).hasSize(APPLICATIONS);
+        assertThat(result.getUpdated()).isEqualTo(EXPECTED_UPDATED);
+        assertThat(result.getUnchanged()).isZero();
+        assertThat(result.getFailed()).isEqualTo(EXPECTED_REJECTED);
+        assertThat(outcomes).containsOnlyKeys(Outcome.UPDATED, Outcome.INVALID_TRANSITION);
+        assertThat(outcomes.get(Outcome.INVALID_TRANSITION)).isEqualTo((long) EXPECTED_REJECTED);
+        assertThat(result.getResults())
+                .filteredOn(row -> row.getOutcome() == Outcome.INVALID_TRANSITION)
+                .allSatisfy(row -> assertThat(row.getPreviousStatus()).isEqualTo(ApplicationStatus.REJECTED));
+
+        Map<String, Integer> stored = jdbcTemplate.queryForList(
+                        "SELECT status, COUNT(*) AS n FROM application WHERE placement_id = ? GROUP BY status",
+                        placementId).stream()
+                .collect(Collectors.toMap(row -> (String) row.get("status"), row -> ((Number) row.get("n")).intValue()));
+        assertThat(stored).containsOnly(
+                Map.entry("SHORTLISTED", EXPECTED_UPDATED),
+                Map.entry("REJECTED", EXPECTED_REJECTED));
+    }
+
+    private static void report(String path, long start) {
+        System.out.printf("%nbulk transition, %d rows, %-14s %8.0f ms%n",
+                APPLICATIONS, path, (System.nanoTime() - start) / 1_000_000.0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.profileservice.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contact details and latest CGPA of a student, for placement applicant exports
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantProfileDTO {
+    private String username;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    // CGPA of the most recently completed education that has one
+    private Double latestCgpa;
+}
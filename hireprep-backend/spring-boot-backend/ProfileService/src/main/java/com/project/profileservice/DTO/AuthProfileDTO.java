@@ -5,14 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-
+/**
+ * Minimal fields needed to verify a login and issue a token
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuthProfileDTO {
     private String username;
     private String password;
-    private String email;
     private Role role;
     private String firstName;
     private String lastName;
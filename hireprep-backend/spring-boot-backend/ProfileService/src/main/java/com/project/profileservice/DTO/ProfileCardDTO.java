@@ -0,0 +1,23 @@
+package com.project.profileservice.DTO;
+
+import com.project.profileservice.model.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Basic identity fields of a profile, read without loading any associations
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileCardDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String phoneNumber;
+    private Role role;
+    private String department;
+}
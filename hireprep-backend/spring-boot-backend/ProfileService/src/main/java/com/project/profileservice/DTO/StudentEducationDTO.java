@@ -0,0 +1,20 @@
+package com.project.profileservice.DTO;
+
+import com.project.profileservice.model.Education;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The parts of a student profile that placement eligibility is matched against
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentEducationDTO {
+    private String username;
+    private boolean hasExperience;
+    private List<Education> education;
+}
@@ -0,0 +1,47 @@
+package com.project.profileservice.client;
+
+import com.project.profileservice.event.ProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Tells services that cache or match on profiles (Attendance Service's profile cache,
+ * Placement Service's eligibility index) to evict a user after a profile change has
+ * been committed. Runs on the async task executor
+ * (virtual threads when enabled) so the profile update does not wait on other services.
+ */
+@Component
+@Slf4j
+public class ProfileCacheInvalidationClient {
+
+    private final RestTemplate restTemplate;
+    private final List<String> cacheUrls;
+
+    public ProfileCacheInvalidationClient(
+            RestTemplate restTemplate,
+            @Value("${profile.cache.invalidation-urls:"
+                    + "http://localhost:8082/internal/attendance/profile-cache,"
+                    + "http://localhost:8084/internal/placements/eligibility/students}") List<String> cacheUrls) {
+        this.restTemplate = restTemplate;
+        this.cacheUrls = cacheUrls;
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        for (String cacheUrl : cacheUrls) {
+            try {
+                restTemplate.delete(cacheUrl + "/" + event.getUsername());
+            } catch (Exception e) {
+                // Entry still expires through the cache TTL
+                log.warn("Unable to evict {} from {}: {}", event.getUsername(), cacheUrl, e.getMessage());
+            }
+        }
+    }
+}
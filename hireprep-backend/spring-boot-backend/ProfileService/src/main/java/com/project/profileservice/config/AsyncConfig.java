@@ -0,0 +1,12 @@
+package com.project.profileservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async listeners such as ProfileCacheInvalidationClient
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
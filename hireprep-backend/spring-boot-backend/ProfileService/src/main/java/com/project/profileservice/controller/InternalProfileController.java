@@ -0,0 +1,41 @@
+package com.project.profileservice.controller;
+
+import com.project.profileservice.DTO.ApplicantProfileDTO;
+import com.project.profileservice.DTO.StudentEducationDTO;
+import com.project.profileservice.service.UserProfileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Student data read by other services. Lives under /internal, which the gateway does not
+ * route, so these bulk reads (contact details included) cannot be made by clients.
+ */
+@RestController
+@RequestMapping("/internal/profile")
+public class InternalProfileController {
+
+    @Autowired
+    private UserProfileService service;
+
+    // Education of every student, for Placement Service eligibility matching
+    @GetMapping("/students/education")
+    public ResponseEntity<List<StudentEducationDTO>> getAllStudentEducation() {
+        return ResponseEntity.ok(service.findAllStudentEducation());
+    }
+
+    @GetMapping("/students/{username}/education")
+    public ResponseEntity<StudentEducationDTO> getStudentEducation(@PathVariable String username) {
+        return service.findStudentEducation(username)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Contact details and latest CGPA for a chunk of applicants (Placement Service exports)
+    @PostMapping("/batch/applicants")
+    public ResponseEntity<List<ApplicantProfileDTO>> getApplicantProfiles(@RequestBody List<String> usernames) {
+        return ResponseEntity.ok(service.findApplicantProfiles(usernames));
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.profileservice.controller;
 
 import com.project.profileservice.DTO.AuthProfileDTO;
+import com.project.profileservice.DTO.ProfileCardDTO;
 import com.project.profileservice.DTO.ProfileRequestDTO;
 import com.project.profileservice.DTO.ProfileResponseDTO;
 import com.project.profileservice.service.UserProfileService;
@@ -18,6 +19,10 @@ import java.util.Map;
 //@CrossOrigin(origins = "*")
 public class UserProfileController {
 
+    // Tells the gateway response cache which cached paths a mutation makes stale
+    private static final String CACHE_INVALIDATE_HEADER = "X-Cache-Invalidate";
+    private static final String CACHED_PATHS = "/api/profile/faculty";
+
     @Autowired
     private UserProfileService service;
 
@@ -25,7 +30,9 @@ public class UserProfileController {
     public ResponseEntity<?> createProfile(@RequestBody ProfileRequestDTO dto) {
         try {
             ProfileResponseDTO created = service.createProfile(dto);
-            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(created);
         } catch (IllegalArgumentException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -42,6 +49,10 @@ public class UserProfileController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+    @PostMapping("/batch")
+    public ResponseEntity<List<ProfileCardDTO>> getProfiles(@RequestBody List<String> usernames) {
+        return ResponseEntity.ok(service.findCardsByUsernames(usernames));
+    }
     @GetMapping("/auth/{username}")
     public ResponseEntity<AuthProfileDTO> getProfileForAuth(@PathVariable String username) {
         return service.findByUsernameForAuth(username)
@@ -54,7 +65,9 @@ public class UserProfileController {
             @RequestBody ProfileRequestDTO dto) {
         try {
             ProfileResponseDTO updated = service.updateProfile(username, dto);
-            return ResponseEntity.ok(updated);
+            return ResponseEntity.ok()
+                    .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                    .body(updated);
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -70,7 +83,9 @@ public class UserProfileController {
     @DeleteMapping("/{username}")
     public ResponseEntity<Void> deleteProfile(@PathVariable String username) {
         service.deleteByUsername(username);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.noContent()
+                .header(CACHE_INVALIDATE_HEADER, CACHED_PATHS)
+                .build();
     }
     @GetMapping
     public ResponseEntity<List<ProfileResponseDTO>> getAllProfiles() {
@@ -0,0 +1,15 @@
+package com.project.profileservice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when a profile is updated or deleted, or a student profile is created,
+ * so that services caching or matching on profile data can refresh their copy once
+ * the change is committed
+ */
+@Data
+@AllArgsConstructor
+public class ProfileChangedEvent {
+    private String username;
+}
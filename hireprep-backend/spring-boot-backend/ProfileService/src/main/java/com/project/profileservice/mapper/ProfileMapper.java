@@ -1,6 +1,5 @@
 package com.project.profileservice.mapper;
 
-import com.project.profileservice.DTO.AuthProfileDTO;
 import com.project.profileservice.DTO.ProfileRequestDTO;
 import com.project.profileservice.DTO.ProfileResponseDTO;
 import com.project.profileservice.model.Role;
@@ -86,15 +85,4 @@ public class ProfileMapper {
 
         return dto;
     }
-
-    public AuthProfileDTO toAuthDTO(UserProfile profile) {
-        return new AuthProfileDTO(
-                profile.getUsername(),
-                profile.getPassword(),
-                profile.getEmail(),
-                profile.getRole(),
-                profile.getFirstName(),
-                profile.getLastName()
-        );
-    }
 }
\ No newline at end of file
@@ -2,12 +2,31 @@ package com.project.profileservice.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
+/**
+ * Associations are LAZY; each read path picks what it needs through the named
+ * entity graphs below or a DTO projection in UserProfileRepository.
+ */
 @Entity
 @Data
+@NamedEntityGraph(name = UserProfile.GRAPH_DETAILS, attributeNodes = {
+        @NamedAttributeNode("education"),
+        @NamedAttributeNode("mentor")
+})
+@NamedEntityGraph(name = UserProfile.GRAPH_MENTEES, attributeNodes = {
+        @NamedAttributeNode("mentees")
+})
 public class UserProfile {
+    // Education and mentor, for the full student profile
+    public static final String GRAPH_DETAILS = "UserProfile.details";
+    // Mentee list, for faculty listings
+    public static final String GRAPH_MENTEES = "UserProfile.mentees";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -54,9 +73,10 @@ public class UserProfile {
     })
     private Address permanentAddress;
 
-    // Student fields - Using EAGER fetch to always load education
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    // Student fields
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_profile_id")
+    @BatchSize(size = 50)
     private List<Education> education;
 
     @Column(length = 2000)
@@ -65,10 +85,15 @@ public class UserProfile {
     private String disabilities;
 
     private String resumePath;
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "mentor_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private UserProfile mentor;
-    @OneToMany(mappedBy = "mentor", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "mentor", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<UserProfile> mentees;
 
     private String department;
@@ -1,17 +1,58 @@
 package com.project.profileservice.repository;
 
+import com.project.profileservice.DTO.AuthProfileDTO;
+import com.project.profileservice.DTO.ProfileCardDTO;
 import com.project.profileservice.model.Role;
 import com.project.profileservice.model.UserProfile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+    // Profile row only; associations stay unloaded
     Optional<UserProfile> findByUsername(String username);
-    Optional<UserProfile> findByEmail(String email);
+
+    // Login lookup selects only the columns it returns
+    @Query("SELECT new com.project.profileservice.DTO.AuthProfileDTO(p.username, p.password, " +
+            "p.role, p.firstName, p.lastName) FROM UserProfile p WHERE p.username = :username")
+    Optional<AuthProfileDTO> findAuthProfileByUsername(@Param("username") String username);
+
+    // Full profile: education and mentor fetched with the profile
+    @EntityGraph(UserProfile.GRAPH_DETAILS)
+    Optional<UserProfile> findDetailedByUsername(String username);
+
+    @EntityGraph(UserProfile.GRAPH_DETAILS)
+    @Query("SELECT p FROM UserProfile p")
+    List<UserProfile> findAllDetailed();
+
+    // Mentee roster: each mentee with education and mentor
+    @EntityGraph(UserProfile.GRAPH_DETAILS)
+    List<UserProfile> findByMentorUsername(String mentorUsername);
+
+    // Profile cards for several users in one query
+    @Query("SELECT new com.project.profileservice.DTO.ProfileCardDTO(p.id, p.username, p.email, " +
+            "p.firstName, p.lastName, p.phoneNumber, p.role, p.department) " +
+            "FROM UserProfile p WHERE p.username IN :usernames")
+    List<ProfileCardDTO> findCardsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @EntityGraph(UserProfile.GRAPH_MENTEES)
     List<UserProfile> findByRole(Role role);
+
+    // Profiles with education for several users in one query, for applicant exports
+    @EntityGraph(attributePaths = "education")
+    List<UserProfile> findWithEducationByUsernameIn(Collection<String> usernames);
+
+    // All profiles of a role with education only, for placement eligibility matching
+    @EntityGraph(attributePaths = "education")
+    List<UserProfile> findWithEducationByRole(Role role);
+
+    Optional<UserProfile> findByEmail(String email);
     List<UserProfile> findByMentorId(Long mentorId);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+}
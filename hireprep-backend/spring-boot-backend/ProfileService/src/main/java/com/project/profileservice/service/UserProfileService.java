@@ -1,19 +1,26 @@
 package com.project.profileservice.service;
 
+import com.project.profileservice.DTO.ApplicantProfileDTO;
 import com.project.profileservice.DTO.AuthProfileDTO;
+import com.project.profileservice.DTO.ProfileCardDTO;
 import com.project.profileservice.DTO.ProfileRequestDTO;
 import com.project.profileservice.DTO.ProfileResponseDTO;
+import com.project.profileservice.DTO.StudentEducationDTO;
+import com.project.profileservice.event.ProfileChangedEvent;
 import com.project.profileservice.mapper.ProfileMapper;
 import com.project.profileservice.model.Education;
 import com.project.profileservice.model.Role;
 import com.project.profileservice.model.UserProfile;
 import com.project.profileservice.repository.UserProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,6 +37,9 @@ public class UserProfileService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public ProfileResponseDTO createProfile(ProfileRequestDTO dto) {
         if (repository.existsByUsername(dto.getUsername())) {
@@ -55,38 +65,82 @@ public class UserProfileService {
         }
 
         UserProfile saved = repository.save(profile);
+        if (saved.getRole() == Role.STUDENT) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(saved.getUsername()));
+        }
         return mapper.toDTO(saved);
     }
 
     @Transactional(readOnly = true)
     public Optional<ProfileResponseDTO> findByUsername(String username) {
-        return repository.findByUsername(username)
-                .map(profile -> {
-                    if (profile.getRole() == Role.STUDENT) {
-                        if (profile.getEducation() != null) {
-                            profile.getEducation().size();
-                        }
-                        if (profile.getMentor() != null) {
-                            profile.getMentor().getUsername();
-                        }
-                    } else if (profile.getRole() == Role.FACULTY) {
-                        if (profile.getMentees() != null) {
-                            profile.getMentees().size();
-                        }
-                    }
-                    return mapper.toDTO(profile);
-                });
+        return repository.findDetailedByUsername(username)
+                .map(mapper::toDTO);
     }
 
     @Transactional(readOnly = true)
     public Optional<AuthProfileDTO> findByUsernameForAuth(String username) {
-        return repository.findByUsername(username)
-                .map(mapper::toAuthDTO);
+        return repository.findAuthProfileByUsername(username);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProfileCardDTO> findCardsByUsernames(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findCardsByUsernameIn(usernames);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApplicantProfileDTO> findApplicantProfiles(Collection<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return List.of();
+        }
+        return repository.findWithEducationByUsernameIn(usernames).stream()
+                .map(profile -> new ApplicantProfileDTO(
+                        profile.getUsername(),
+                        profile.getFirstName(),
+                        profile.getLastName(),
+                        profile.getEmail(),
+                        profile.getPhoneNumber(),
+                        latestCgpa(profile)))
+                .collect(Collectors.toList());
+    }
+
+    private Double latestCgpa(UserProfile profile) {
+        if (profile.getEducation() == null) {
+            return null;
+        }
+        return profile.getEducation().stream()
+                .filter(education -> education.getCgpa() != null)
+                .max(Comparator.comparingInt(Education::getCompletionYear))
+                .map(Education::getCgpa)
+                .orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StudentEducationDTO> findAllStudentEducation() {
+        return repository.findWithEducationByRole(Role.STUDENT).stream()
+                .map(this::toStudentEducation)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<StudentEducationDTO> findStudentEducation(String username) {
+        return repository.findDetailedByUsername(username)
+                .filter(profile -> profile.getRole() == Role.STUDENT)
+                .map(this::toStudentEducation);
+    }
+
+    private StudentEducationDTO toStudentEducation(UserProfile profile) {
+        return new StudentEducationDTO(
+                profile.getUsername(),
+                profile.getExperience() != null && !profile.getExperience().isBlank(),
+                profile.getEducation() == null ? List.of() : new ArrayList<>(profile.getEducation()));
     }
 
     @Transactional(readOnly = true)
     public List<ProfileResponseDTO> findAll() {
-        return repository.findAll().stream()
+        return repository.findAllDetailed().stream()
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
@@ -156,12 +210,16 @@ public class UserProfileService {
         }
 
         UserProfile updated = repository.save(existing);
+        eventPublisher.publishEvent(new ProfileChangedEvent(username));
         return mapper.toDTO(updated);
     }
 
     @Transactional
     public void deleteByUsername(String username) {
-        repository.findByUsername(username).ifPresent(repository::delete);
+        repository.findByUsername(username).ifPresent(profile -> {
+            repository.delete(profile);
+            eventPublisher.publishEvent(new ProfileChangedEvent(username));
+        });
     }
 
     @Transactional(readOnly = true)
@@ -172,11 +230,8 @@ public class UserProfileService {
         if (faculty.getRole() != Role.FACULTY) {
             throw new IllegalArgumentException("User is not a faculty member");
         }
-        if (faculty.getMentees() != null) {
-            faculty.getMentees().size();
-        }
 
-        return faculty.getMentees().stream()
+        return repository.findByMentorUsername(facultyUsername).stream()
                 .map(mapper::toDTO)
                 .collect(Collectors.toList());
     }
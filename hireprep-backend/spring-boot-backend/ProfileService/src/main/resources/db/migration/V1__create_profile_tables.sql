@@ -0,0 +1,46 @@
+CREATE TABLE IF NOT EXISTS user_profile (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username          VARCHAR(255)  NOT NULL UNIQUE,
+    email             VARCHAR(255)  NOT NULL UNIQUE,
+    password          VARCHAR(255)  NOT NULL,
+    first_name        VARCHAR(255)  NOT NULL,
+    last_name         VARCHAR(255)  NOT NULL,
+    phone_number      VARCHAR(255),
+    role              VARCHAR(255)  NOT NULL,
+    gender            VARCHAR(255)  NOT NULL,
+    present_line1     VARCHAR(255),
+    present_line2     VARCHAR(255),
+    present_state     VARCHAR(255),
+    present_pincode   INTEGER,
+    permanent_line1   VARCHAR(255),
+    permanent_line2   VARCHAR(255),
+    permanent_state   VARCHAR(255),
+    permanent_pincode INTEGER,
+    experience        VARCHAR(2000),
+    disabilities      VARCHAR(255),
+    resume_path       VARCHAR(255),
+    mentor_id         BIGINT REFERENCES user_profile (id),
+    department        VARCHAR(255),
+    employee_id       VARCHAR(255)
+);
+
+-- findByRole (faculty listing) and mentee lookups by mentor
+CREATE INDEX IF NOT EXISTS idx_user_profile_role
+    ON user_profile (role);
+CREATE INDEX IF NOT EXISTS idx_user_profile_mentor
+    ON user_profile (mentor_id);
+
+CREATE TABLE IF NOT EXISTS education (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    level           VARCHAR(255),
+    school_name     VARCHAR(255),
+    board           VARCHAR(255),
+    start_year      INTEGER,
+    completion_year INTEGER NOT NULL,
+    percentage      FLOAT(53),
+    cgpa            FLOAT(53),
+    user_profile_id BIGINT REFERENCES user_profile (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_education_user_profile
+    ON education (user_profile_id);
@@ -0,0 +1,148 @@
+package com.project.profileservice.service;
+
+import com.project.profileservice.DTO.AuthProfileDTO;
+import com.project.profileservice.PostgresIntegrationTest;
+import com.project.profileservice.model.UserProfile;
+import com.project.profileservice.repository.UserProfileRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Login-time profile lookup under a login storm: the column projection behind
+ * GET /api/profile/auth/{username} against the entity load it replaced. Before the
+ * projection, findByUsername materialized the profile with its EAGER education, mentor and
+ * mentees (the mentor's mentees included) just to copy six fields; the "entity" variant
+ * loads the same graph explicitly now that the associations are lazy.
+ * Run with mvn test -Pbenchmark.
+ */
+@SpringBootTest
+@Tag("benchmark")
+class AuthLookupBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int MENTORS = 20;
+    private static final int STUDENTS = 5_000;
+    private static final int EDUCATION_PER_STUDENT = 3;
+    // Concurrent logins; matches the default Tomcat and Hikari sizing of one instance
+    private static final int THREADS = 32;
+    private static final int WARMUP_LOOKUPS = 5_000;
+    private static final int MEASURED_LOOKUPS = 20_000;
+
+    @Autowired
+    private UserProfileService userProfileService;
+
+    @Autowired
+    private UserProfileRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("TRUNCATE education, user_profile RESTART IDENTITY");
+        jdbcTemplate.update("""
+                INSERT INTO user_profile (username, email, password, first_name, last_name, role, gender, department)
+                SELECT 'faculty' || i, 'faculty' || i || '@example.com', '$2a$10$hash', 'Faculty', 'F' || i,
+                       'FACULTY', 'OTHER', 'CSE'
+                FROM generate_series(1, ?) AS i
+                """, MENTORS);
+        jdbcTemplate.update("""
+                INSERT INTO user_profile (username, email, password, first_name, last_name, role, gender,
+                                          present_line1, present_state, present_pincode, experience, mentor_id)
+                SELECT 'student' || i, 'student' || i || '@example.com', '$2a$10$hash', 'Student', 'S' || i,
+                       'STUDENT', 'OTHER', 'Line 1', 'State', 560001, repeat('x', 500), 1 + i % ?
+                FROM generate_series(1, ?) AS i
+                """, MENTORS, STUDENTS);
+        jdbcTemplate.update("""
+                INSERT INTO education (level, school_name, board, start_year, completion_year, percentage, cgpa,
+                                       user_profile_id)
+                SELECT 'LEVEL' || e, 'School', 'Board', 2015 + e, 2018 + e, 80, 8.5, p.id
+                FROM user_profile p CROSS JOIN generate_series(1, ?) AS e
+                WHERE p.role = 'STUDENT'
+                """, EDUCATION_PER_STUDENT);
+        jdbcTemplate.execute("VACUUM ANALYZE user_profile");
+        jdbcTemplate.execute("VACUUM ANALYZE education");
+    }
+
+    @Test
+    void projectionBeatsEntityLoadAtP99() throws Exception {
+        Function<String, Optional<AuthProfileDTO>> entity = this::loadLikeEagerEntity;
+        Function<String, Optional<AuthProfileDTO>> projection = userProfileService::findByUsernameForAuth;
+
+        assertThat(projection.apply("student1")).isEqualTo(entity.apply("student1"));
+
+        run(entity, WARMUP_LOOKUPS);
+        run(projection, WARMUP_LOOKUPS);
+        double[] entityMillis = run(entity, MEASURED_LOOKUPS);
+        double[] projectionMillis = run(projection, MEASURED_LOOKUPS);
+
+        System.out.printf("%nauth lookup, %d threads   p50 ms    p99 ms%n", THREADS);
+        System.out.printf("entity (pre-change)   %9.3f %9.3f%n", percentile(entityMillis, 50), percentile(entityMillis, 99));
+        System.out.printf("projection            %9.3f %9.3f%n", percentile(projectionMillis, 50), percentile(projectionMillis, 99));
+
+        assertThat(percentile(projectionMillis, 99)).isLessThan(percentile(entityMillis, 99));
+    }
+
+    // What findByUsername + ProfileMapper.toAuthDTO did while the associations were EAGER
+    private Optional<AuthProfileDTO> loadLikeEagerEntity(String username) {
+        return transactionTemplate.execute(status -> repository.findDetailedByUsername(username).map(profile -> {
+            Hibernate.initialize(profile.getMentees());
+            UserProfile mentor = profile.getMentor();
+            if (mentor != null) {
+                Hibernate.initialize(mentor.getEducation());
+                Hibernate.initialize(mentor.getMentees());
+            }
+            return new AuthProfileDTO(profile.getUsername(), profile.getPassword(), profile.getRole(),
+                    profile.getFirstName(), profile.getLastName());
+        }));
+    }
+
+    private double[] run(Function<String, Optional<AuthProfileDTO>> lookup, int lookups) throws Exception {
+        double[] millis = new double[lookups];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < lookups; i++) {
+                int slot = i;
+                futures.add(executor.submit(() -> {
+                    String username = "student" + (1 + ThreadLocalRandom.current().nextInt(STUDENTS));
+                    long start = System.nanoTime();
+                    assertThat(lookup.apply(username)).isPresent();
+                    millis[slot] = (System.nanoTime() - start) / 1_000_000.0;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return millis;
+    }
+
+    private static double percentile(double[] values, int percentile) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.gatewayservice.cache;
+
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+
+/**
+ * A cached 200 response body with the metadata needed to replay it. The body is stored
+ * as the backend sent it, so a gzip body keeps its Content-Encoding (null for identity).
+ */
+public record CachedResponse(
+        String routeId,
+        String path,
+        MediaType contentType,
+        String contentEncoding,
+        String vary,
+        byte[] body,
+        String etag,
+        Duration ttl) {
+}
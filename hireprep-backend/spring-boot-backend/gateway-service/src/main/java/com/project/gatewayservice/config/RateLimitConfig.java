@@ -0,0 +1,30 @@
+package com.project.gatewayservice.config;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+@Configuration
+public class RateLimitConfig {
+
+    // Authenticated calls are limited per JWT subject (the X-User header value);
+    // unauthenticated /api/auth/** calls such as login are limited per client IP
+    @Bean
+    public KeyResolver userOrClientIpKeyResolver() {
+        return exchange -> exchange.getPrincipal()
+                .filter(principal -> principal instanceof JwtAuthenticationToken)
+                .map(principal -> "user:" + ((JwtAuthenticationToken) principal).getToken().getSubject())
+                .switchIfEmpty(Mono.defer(() -> {
+                    InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+                    if (exchange.getRequest().getPath().value().startsWith("/api/auth/")
+                            && remoteAddress != null && remoteAddress.getAddress() != null) {
+                        return Mono.just("ip:" + remoteAddress.getAddress().getHostAddress());
+                    }
+                    return Mono.empty();
+                }));
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.gatewayservice.filter;
+
+import com.project.gatewayservice.cache.ResponseCacheStore;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Backend services name the cached paths a mutation affects in the
+ * X-Cache-Invalidate response header (comma separated path prefixes).
+ * The gateway purges matching response cache entries and strips the header.
+ */
+@Configuration
+public class CacheInvalidationFilter {
+
+    public static final String INVALIDATE_HEADER = "X-Cache-Invalidate";
+
+    @Bean
+    public GlobalFilter cacheInvalidationGlobalFilter(ResponseCacheStore store) {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() == HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            exchange.getResponse().beforeCommit(() -> {
+                List<String> prefixes = exchange.getResponse().getHeaders().get(INVALIDATE_HEADER);
+                if (prefixes != null) {
+                    prefixes.stream()
+                            .flatMap(value -> StringUtils.commaDelimitedListToSet(value).stream())
+                            .map(String::trim)
+                            .filter(StringUtils::hasText)
+                            .forEach(store::invalidatePathPrefix);
+                    exchange.getResponse().getHeaders().remove(INVALIDATE_HEADER);
+                }
+                return Mono.empty();
+            });
+            return chain.filter(exchange);
+        };
+    }
+}
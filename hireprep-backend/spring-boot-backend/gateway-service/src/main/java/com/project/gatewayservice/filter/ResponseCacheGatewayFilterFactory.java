@@ -0,0 +1,233 @@
+package com.project.gatewayservice.filter;
+
+import com.project.gatewayservice.cache.CachedResponse;
+import com.project.gatewayservice.cache.ResponseCacheStore;
+import lombok.Data;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Caches successful GET responses of a route in memory, per user and role, for the
+ * configured TTL (e.g. {@code ResponseCache=5m}). Gzip and identity bodies are cached
+ * under separate keys, following the client's Accept-Encoding. Responses carry an ETag and
+ * matching If-None-Match requests get 304. Any non-GET request through the route
+ * purges that route's entries; see CacheInvalidationFilter for cross-route purges.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final String GZIP = "gzip";
+
+    private final ResponseCacheStore store;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCacheStore store) {
+        super(Config.class);
+        this.store = store;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Must wrap the response before NettyWriteResponseFilter writes the backend body
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "";
+
+            if (exchange.getRequest().getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange)
+                        .doFinally(signal -> store.invalidateRoute(routeId));
+            }
+
+            return identity().flatMap(identity -> {
+                ServerHttpRequest request = exchange.getRequest();
+                String key = routeId + "|" + identity + "|" + encodingKey(request) + "|"
+                        + request.getURI().getRawPath()
+                        + "?" + (request.getURI().getRawQuery() != null ? request.getURI().getRawQuery() : "");
+
+                CachedResponse cached = store.get(key);
+                if (cached != null) {
+                    return writeCached(exchange, cached);
+                }
+
+                ServerHttpResponse decorated = new CachingResponse(exchange, key, routeId, config.getTtl());
+                return chain.filter(exchange.mutate().response(decorated).build());
+            });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    // Same identity GlobalJwtHeaderFilter forwards as X-User / X-Role
+    private Mono<String> identity() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(securityContext -> securityContext.getAuthentication())
+                .filter(authentication -> authentication != null && authentication.getPrincipal() instanceof Jwt)
+                .map(authentication -> {
+                    Jwt jwt = (Jwt) authentication.getPrincipal();
+                    return jwt.getSubject() + "|" + jwt.getClaimAsString("role");
+                })
+                .defaultIfEmpty("anonymous|");
+    }
+
+    // Backends only ever compress with gzip, so any other Accept-Encoding gets the identity body
+    private static String encodingKey(ServerHttpRequest request) {
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String coding : value.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (parts[0].trim().equalsIgnoreCase(GZIP) && !isZeroQuality(parts)) {
+                    return GZIP;
+                }
+            }
+        }
+        return "identity";
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim().replace(" ", "");
+            if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set("X-Cache", "HIT");
+        if (cached.vary() != null) {
+            response.getHeaders().set(HttpHeaders.VARY, cached.vary());
+        }
+
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            response.getHeaders().setContentType(cached.contentType());
+        }
+        if (cached.contentEncoding() != null) {
+            response.getHeaders().set(HttpHeaders.CONTENT_ENCODING, cached.contentEncoding());
+        }
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("*");
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Buffers a cacheable 200 body, stores it, and adds the ETag before passing it on
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final String routeId;
+        private final Duration ttl;
+
+        CachingResponse(ServerWebExchange exchange, String key, String routeId, Duration ttl) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.routeId = routeId;
+            this.ttl = ttl;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable()) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(Flux.from(body)).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                String etag = etag(bytes);
+                store.put(key, new CachedResponse(routeId, exchange.getRequest().getURI().getRawPath(),
+                        getHeaders().getContentType(), getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING),
+                        vary(), bytes, etag, ttl));
+
+                getHeaders().setETag(etag);
+                getHeaders().set("X-Cache", "MISS");
+                if (matchesIfNoneMatch(exchange.getRequest(), etag)) {
+                    setStatusCode(HttpStatus.NOT_MODIFIED);
+                    getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                    return getDelegate().setComplete();
+                }
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+
+        private String vary() {
+            List<String> vary = getHeaders().getVary();
+            return vary.isEmpty() ? null : String.join(", ", vary);
+        }
+
+        private boolean isCacheable() {
+            if (getStatusCode() == null || getStatusCode().value() != HttpStatus.OK.value()) {
+                return false;
+            }
+            String cacheControl = getHeaders().getCacheControl();
+            if (cacheControl != null && cacheControl.contains(CacheControl.noStore().getHeaderValue())) {
+                return false;
+            }
+            MediaType contentType = getHeaders().getContentType();
+            return contentType == null
+                    || !(MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                    || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType));
+        }
+    }
+
+    @Data
+    public static class Config {
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.gatewayservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory token bucket for the RequestRateLimiter filter, one bucket per route and key.
+ * Buckets are updated with compare-and-set, so concurrent requests never block each other.
+ * Per-route limits are set with token-bucket-rate-limiter.* filter args; routes without
+ * them use the gateway.rate-limit.* defaults.
+ */
+@Component
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final Config defaultConfig;
+
+    // An idle bucket refills completely, so dropping it loses nothing once idle-expiry
+    // exceeds burst-capacity / replenish-rate
+    private final Cache<String, TokenBucket> buckets;
+
+    public TokenBucketRateLimiter(
+            ConfigurationService configurationService,
+            @Value("${gateway.rate-limit.replenish-rate:10}") int replenishRate,
+            @Value("${gateway.rate-limit.burst-capacity:20}") int burstCapacity,
+            @Value("${gateway.rate-limit.idle-expiry:10m}") Duration idleExpiry,
+            @Value("${gateway.rate-limit.max-keys:100000}") long maxKeys) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.defaultConfig = new Config();
+        this.defaultConfig.setReplenishRate(replenishRate);
+        this.defaultConfig.setBurstCapacity(burstCapacity);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleExpiry)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(routeId + "|" + id,
+                key -> new TokenBucket(config.getBurstCapacity(), now));
+
+        Consumption consumption = bucket.tryConsume(config, now);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(LIMIT_HEADER, String.valueOf(config.getBurstCapacity()));
+        headers.put(REMAINING_HEADER, String.valueOf((long) consumption.remaining()));
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()));
+        if (!consumption.allowed()) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(consumption.nanosUntilAllowed() + 999_999_999L));
+            headers.put(RETRY_AFTER_HEADER, String.valueOf(retryAfterSeconds));
+        }
+        return Mono.just(new Response(consumption.allowed(), headers));
+    }
+
+    private record Consumption(boolean allowed, double remaining, long nanosUntilAllowed) {
+    }
+
+    private record State(double tokens, long timestamp) {
+    }
+
+    private static final class TokenBucket {
+
+        private final AtomicReference<State> state;
+
+        TokenBucket(double tokens, long now) {
+            this.state = new AtomicReference<>(new State(tokens, now));
+        }
+
+        Consumption tryConsume(Config config, long now) {
+            double tokensPerNano = config.getReplenishRate() / 1_000_000_000.0;
+            int requested = config.getRequestedTokens();
+
+            while (true) {
+                State current = state.get();
+                long elapsed = Math.max(0, now - current.timestamp());
+                double available = Math.min(config.getBurstCapacity(), current.tokens() + elapsed * tokensPerNano);
+
+                if (available < requested) {
+                    // Nothing to write: the refill is recomputed from the stored timestamp
+                    long wait = (long) Math.ceil((requested - available) / tokensPerNano);
+                    return new Consumption(false, available, wait);
+                }
+
+                State next = new State(available - requested, Math.max(now, current.timestamp()));
+                if (state.compareAndSet(current, next)) {
+                    return new Consumption(true, next.tokens(), 0);
+                }
+            }
+        }
+    }
+
+    @Data
+    public static class Config {
+        private int replenishRate;
+        private int burstCapacity;
+        private int requestedTokens = 1;
+    }
+}
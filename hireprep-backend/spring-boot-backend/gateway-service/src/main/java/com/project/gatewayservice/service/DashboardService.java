@@ -0,0 +1,98 @@
+package com.project.gatewayservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backend-for-frontend aggregation of everything Dashboard.jsx needs.
+ * Legs run in parallel, each with its own timeout; a failed leg is returned as null
+ * and listed under "failed" instead of failing the whole response.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final WebClient webClient;
+    private final String profileServiceUrl;
+    private final String attendanceServiceUrl;
+    private final String placementServiceUrl;
+    private final Duration legTimeout;
+
+    public DashboardService(
+            WebClient webClient,
+            @Value("${dashboard.profile-service-url:http://localhost:8081}") String profileServiceUrl,
+            @Value("${dashboard.attendance-service-url:http://localhost:8082}") String attendanceServiceUrl,
+            @Value("${dashboard.placement-service-url:http://localhost:8084}") String placementServiceUrl,
+            @Value("${dashboard.leg-timeout:2s}") Duration legTimeout) {
+        this.webClient = webClient;
+        this.profileServiceUrl = profileServiceUrl;
+        this.attendanceServiceUrl = attendanceServiceUrl;
+        this.placementServiceUrl = placementServiceUrl;
+        this.legTimeout = legTimeout;
+    }
+
+    public Mono<Map<String, Object>> getDashboard(String username, String role, String authorization) {
+        List<Mono<LegResult>> legs = new ArrayList<>();
+        legs.add(leg("profile", profileServiceUrl + "/api/profile/{username}", username, role, authorization));
+
+        if ("STUDENT".equalsIgnoreCase(role)) {
+            legs.add(leg("attendanceStats",
+                    attendanceServiceUrl + "/api/attendance/student/{username}/stats", username, role, authorization));
+            legs.add(leg("applications",
+                    placementServiceUrl + "/api/placements/applications/student/{username}", username, role, authorization));
+            legs.add(leg("availablePlacements",
+                    placementServiceUrl + "/api/placements/available?studentUsername={username}", username, role, authorization));
+        }
+
+        return Flux.merge(legs)
+                .collectList()
+                .map(results -> {
+                    Map<String, Object> dashboard = new LinkedHashMap<>();
+                    List<String> failed = new ArrayList<>();
+                    for (LegResult result : results) {
+                        dashboard.put(result.name(), result.body());
+                        if (result.body() == null) {
+                            failed.add(result.name());
+                        }
+                    }
+                    dashboard.put("failed", failed);
+                    return dashboard;
+                });
+    }
+
+    private Mono<LegResult> leg(String name, String uriTemplate, String username, String role, String authorization) {
+        return webClient.get()
+                .uri(uriTemplate, username)
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                    headers.set("X-User", username);
+                    headers.set("X-Role", role != null ? role : "");
+                })
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(legTimeout)
+                .map(body -> new LegResult(name, body))
+                .onErrorResume(e -> {
+                    log.warn("Dashboard leg {} failed for {}: {}", name, username, e.toString());
+                    return Mono.just(new LegResult(name, null));
+                })
+                .defaultIfEmpty(new LegResult(name, null));
+    }
+
+    private record LegResult(String name, JsonNode body) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.gatewayservice.ratelimit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of the limiter itself when every request contends on one hot bucket, the worst case
+ * for the compare-and-set loop. Refill is one token per second and the run is sized to finish
+ * well inside that second while the latency bound holds, so exactly the burst capacity must
+ * be admitted. Run with mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class TokenBucketRateLimiterBenchmarkTest {
+
+    private static final String ROUTE = "placement-service";
+    private static final int REPLENISH_RATE = 1;
+    private static final int BURST_CAPACITY = 10_000;
+    private static final int THREADS = 32;
+    private static final int CALLS_PER_THREAD = 5_000;
+    private static final int WARMUP_CALLS_PER_THREAD = 20_000;
+    private static final long MAX_MEAN_NANOS = 50_000;
+
+    @Test
+    void hotKeyStaysUnderFiftyMicrosAndAdmitsExactlyTheBurst() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(mock(ConfigurationService.class),
+                REPLENISH_RATE, BURST_CAPACITY, Duration.ofMinutes(10), 100_000);
+
+        // Warm up on separate keys so the hot bucket starts full
+        run(limiter, i -> "warmup-" + (i % 64), WARMUP_CALLS_PER_THREAD);
+
+        long start = System.nanoTime();
+        Result result = run(limiter, i -> "hot-user", CALLS_PER_THREAD);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        double meanMicros = Arrays.stream(result.nanos()).average().orElseThrow() / 1_000.0;
+        System.out.printf("%nlimiter, %d threads, one key   mean us   p50 us   p99 us   admitted%n", THREADS);
+        System.out.printf("%30s %9.2f %8.2f %8.2f %10d%n", "",
+                meanMicros, percentile(result.nanos(), 50) / 1_000.0,
+                percentile(result.nanos(), 99) / 1_000.0, result.admitted());
+
+        assertThat(meanMicros * 1_000).isLessThan(MAX_MEAN_NANOS);
+        // Any longer and the bucket would legitimately have refilled a token
+        assertThat(elapsedSeconds).isLessThan(1.0 / REPLENISH_RATE);
+        assertThat(result.admitted()).isEqualTo(BURST_CAPACITY);
+    }
+
+    private interface KeyForCall {
+        String key(int call);
+    }
+
+    private record Result(long[] nanos, long admitted) {
+    }
+
+    private static Result run(TokenBucketRateLimiter limiter, KeyForCall keys, int callsPerThread)
+            throws Exception {
+        long[] nanos = new long[THREADS * callsPerThread];
+        AtomicLong admitted = new AtomicLong();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * callsPerThread;
+                futures.add(executor.submit(() -> {
+                    go.await();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        long callStart = System.nanoTime();
+                        RateLimiter.Response response = limiter.isAllowed(ROUTE, keys.key(offset + i)).block();
+                        nanos[offset + i] = System.nanoTime() - callStart;
+                        if (response.isAllowed()) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return new Result(nanos, admitted.get());
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.jwtsecurityservice.config;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * RestTemplate for Profile Service calls, backed by the pooled client from HttpClientConfig
+ */
+@Configuration
+public class RestTemplateConfig {
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient interServiceHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(interServiceHttpClient));
+    }
+}
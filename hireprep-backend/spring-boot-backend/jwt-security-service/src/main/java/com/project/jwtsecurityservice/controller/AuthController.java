@@ -4,7 +4,12 @@ import com.project.jwtsecurityservice.dto.LoginRequest;
 import com.project.jwtsecurityservice.dto.LoginResponse;
 import com.project.jwtsecurityservice.dto.RegisterRequest;
 import com.project.jwtsecurityservice.service.AuthService;
+import com.project.jwtsecurityservice.service.HashingCapacityExceededException;
+import com.project.jwtsecurityservice.service.ProfileServiceUnavailableException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,11 +22,21 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Value("${auth.hashing.retry-after-seconds:2}")
+    private int retryAfterSeconds;
+
+    @Value("${profile.service.retry-after-seconds:5}")
+    private int profileServiceRetryAfterSeconds;
+
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
         try {
             LoginResponse response = authService.register(request);
             return ResponseEntity.ok(response);
+        } catch (ProfileServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(profileServiceRetryAfterSeconds))
+                    .body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -32,6 +47,14 @@ public class AuthController {
         try {
             LoginResponse response = authService.login(request);
             return ResponseEntity.ok(response);
+        } catch (HashingCapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .body(Map.of("error", e.getMessage()));
+        } catch (ProfileServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(profileServiceRetryAfterSeconds))
+                    .body(Map.of("error", e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -50,4 +73,14 @@ public class AuthController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revokeToken(@RequestHeader("Authorization") String authHeader) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
+            boolean revoked = authService.revokeToken(token);
+            return ResponseEntity.ok(Map.of("revoked", revoked));
+        }
+        return ResponseEntity.badRequest().body(Map.of("error", "Invalid authorization header"));
+    }
 }
\ No newline at end of file
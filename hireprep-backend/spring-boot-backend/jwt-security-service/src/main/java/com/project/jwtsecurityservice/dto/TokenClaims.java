@@ -0,0 +1,14 @@
+package com.project.jwtsecurityservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Date;
+
+@Data
+@AllArgsConstructor
+public class TokenClaims {
+    private String username;
+    private String role;
+    private Date expiration;
+}
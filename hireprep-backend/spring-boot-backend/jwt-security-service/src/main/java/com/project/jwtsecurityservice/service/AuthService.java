@@ -4,20 +4,26 @@ import com.project.jwtsecurityservice.dto.LoginRequest;
 import com.project.jwtsecurityservice.dto.LoginResponse;
 import com.project.jwtsecurityservice.dto.RegisterRequest;
 import com.project.jwtsecurityservice.utill.JwtUtil;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Service
 public class AuthService {
@@ -26,19 +32,31 @@ public class AuthService {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordVerificationService passwordVerificationService;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private static final String PROFILE_SERVICE_URL = "http://localhost:8081/api/profile";
+    @Autowired
+    private TokenValidationCache tokenValidationCache;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private CircuitBreaker profileServiceCircuitBreaker;
+
+    @Autowired
+    private Bulkhead profileServiceBulkhead;
+
+    @Value("${profile.service.url:http://localhost:8081}/api/profile")
+    private String profileApiUrl;
 
     public LoginResponse register(RegisterRequest request) {
         System.out.println("Registration attempt for username: " + request.getUsername());
         try {
             try {
-                ResponseEntity<ProfileDTO> existingProfile = restTemplate.getForEntity(
-                        PROFILE_SERVICE_URL + "/auth/" + request.getUsername(),
+                ResponseEntity<ProfileDTO> existingProfile = callProfileService(() -> restTemplate.getForEntity(
+                        profileApiUrl + "/auth/" + request.getUsername(),
                         ProfileDTO.class
-                );
+                ));
                 System.out.println("Username already exists: " + request.getUsername());
                 throw new RuntimeException("Username already exists");
             } catch (HttpClientErrorException.NotFound e) {
@@ -55,17 +73,17 @@ public class AuthService {
             profileData.put("gender", request.getGender());
             profileData.put("role", request.getRole() != null ? request.getRole() : "STUDENT");
 
-            System.out.println("Sending profile creation request to: " + PROFILE_SERVICE_URL);
+            System.out.println("Sending profile creation request to: " + profileApiUrl);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(profileData, headers);
 
-            ResponseEntity<ProfileDTO> response = restTemplate.postForEntity(
-                    PROFILE_SERVICE_URL,
+            ResponseEntity<ProfileDTO> response = callProfileService(() -> restTemplate.postForEntity(
+                    profileApiUrl,
                     entity,
                     ProfileDTO.class
-            );
+            ));
 
             System.out.println("Profile created successfully");
 
@@ -89,6 +107,8 @@ public class AuthService {
                     profile.getFirstName(),
                     profile.getLastName()
             );
+        } catch (ProfileServiceUnavailableException e) {
+            throw e;
         } catch (HttpServerErrorException e) {
             System.err.println("Profile service error: " + e.getResponseBodyAsString());
             String errorBody = e.getResponseBodyAsString();
@@ -124,16 +144,16 @@ public class AuthService {
         System.out.println("=== LOGIN ATTEMPT START ===");
         System.out.println("Username: " + request.getUsername());
 
-        // Use the /auth/ endpoint that includes password
-        String profileServiceUrl = PROFILE_SERVICE_URL + "/auth/" + request.getUsername();
+        // The auth endpoint returns only the password hash, role and names
+        String profileServiceUrl = profileApiUrl + "/auth/" + request.getUsername();
 
         try {
             System.out.println("Fetching profile from: " + profileServiceUrl);
 
-            ResponseEntity<ProfileDTO> response = restTemplate.getForEntity(
+            ResponseEntity<ProfileDTO> response = callProfileService(() -> restTemplate.getForEntity(
                     profileServiceUrl,
                     ProfileDTO.class
-            );
+            ));
 
             System.out.println("Profile fetch response status: " + response.getStatusCode());
 
@@ -147,7 +167,7 @@ public class AuthService {
             System.out.println("Profile retrieved: username=" + profile.getUsername() + ", role=" + profile.getRole());
             System.out.println("Password hash retrieved: " + (profile.getPassword() != null ? "YES" : "NO"));
 
-            boolean passwordMatches = passwordEncoder.matches(request.getPassword(), profile.getPassword());
+            boolean passwordMatches = passwordVerificationService.matches(request.getPassword(), profile.getPassword());
             System.out.println("Password match result: " + passwordMatches);
 
             if (!passwordMatches) {
@@ -187,14 +207,28 @@ public class AuthService {
     }
 
     public boolean validateToken(String token) {
-        return jwtUtil.isTokenValid(token);
+        return tokenValidationCache.validate(token).isPresent();
+    }
+
+    public boolean revokeToken(String token) {
+        return tokenValidationCache.revoke(token);
+    }
+
+    // Bulkhead caps concurrent Profile Service calls; the circuit breaker fails fast while it is down
+    private <T> T callProfileService(Supplier<T> call) {
+        try {
+            return Bulkhead.decorateSupplier(profileServiceBulkhead,
+                    CircuitBreaker.decorateSupplier(profileServiceCircuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException | ResourceAccessException e) {
+            System.err.println("Profile service unavailable: " + e.getMessage());
+            throw new ProfileServiceUnavailableException("Profile service unavailable, please try again later", e);
+        }
     }
 
     @lombok.Data
     private static class ProfileDTO {
         private String username;
         private String password;
-        private String email;
         private Object role;
         private String firstName;
         private String lastName;
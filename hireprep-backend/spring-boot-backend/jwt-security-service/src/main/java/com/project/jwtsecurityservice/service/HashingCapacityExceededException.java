@@ -0,0 +1,11 @@
+package com.project.jwtsecurityservice.service;
+
+/**
+ * Thrown when the password hashing pool cannot take more work; mapped to 503 with Retry-After
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
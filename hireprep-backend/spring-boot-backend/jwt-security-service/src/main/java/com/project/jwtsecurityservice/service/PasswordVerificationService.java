@@ -0,0 +1,63 @@
+package com.project.jwtsecurityservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs BCrypt verification on the bounded password-hashing pool instead of the request thread
+ */
+@Service
+public class PasswordVerificationService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+
+    public PasswordVerificationService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ExecutorService executor,
+            @Value("${auth.hashing.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.hashTimer = Timer.builder("auth.password.verify")
+                .description("Time spent in BCrypt verification")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> hashTimer.recordCallable(
+                    () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            throw new HashingCapacityExceededException("Too many login attempts in progress, please retry");
+        }
+
+        try {
+            return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new HashingCapacityExceededException("Login is taking too long, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Authentication interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Authentication failed: " + e.getCause().getMessage());
+        }
+    }
+}
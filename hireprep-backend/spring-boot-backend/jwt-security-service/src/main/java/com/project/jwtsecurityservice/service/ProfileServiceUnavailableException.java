@@ -0,0 +1,12 @@
+package com.project.jwtsecurityservice.service;
+
+/**
+ * Profile Service could not be reached (I/O error, open circuit breaker or full bulkhead);
+ * mapped to 503 with Retry-After
+ */
+public class ProfileServiceUnavailableException extends RuntimeException {
+
+    public ProfileServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
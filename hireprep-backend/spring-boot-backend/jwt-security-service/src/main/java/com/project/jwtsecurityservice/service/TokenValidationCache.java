@@ -0,0 +1,117 @@
+package com.project.jwtsecurityservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.jwtsecurityservice.dto.TokenClaims;
+import com.project.jwtsecurityservice.utill.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches verified token claims by SHA-256 digest until each token's own expiry,
+ * so repeat /validate calls skip signature verification. Revoked tokens are held
+ * in a deny list, also until expiry. Cache stats are published as cache.* metrics
+ * under the names "validated-tokens" and "revoked-tokens".
+ */
+@Component
+public class TokenValidationCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, TokenClaims> validated;
+    private final Cache<String, TokenClaims> revoked;
+
+    public TokenValidationCache(
+            JwtUtil jwtUtil,
+            @Value("${auth.token-cache.max-size:50000}") long maxSize,
+            MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.validated = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(untilTokenExpiry())
+                .recordStats()
+                .<String, TokenClaims>build(), "validated-tokens");
+        this.revoked = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .expireAfter(untilTokenExpiry())
+                .recordStats()
+                .<String, TokenClaims>build(), "revoked-tokens");
+    }
+
+    /**
+     * Claims of a valid, unrevoked token, or empty if the token is invalid, expired or revoked
+     */
+    public Optional<TokenClaims> validate(String token) {
+        String key = digest(token);
+        if (revoked.getIfPresent(key) != null) {
+            return Optional.empty();
+        }
+
+        TokenClaims cached = validated.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            TokenClaims claims = jwtUtil.parseToken(token);
+            validated.put(key, claims);
+            return Optional.of(claims);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Deny a token until it expires. Returns false if the token was not valid to begin with.
+     */
+    public boolean revoke(String token) {
+        Optional<TokenClaims> claims = validate(token);
+        if (claims.isEmpty()) {
+            return false;
+        }
+        String key = digest(token);
+        revoked.put(key, claims.get());
+        validated.invalidate(key);
+        return true;
+    }
+
+    private static Expiry<String, TokenClaims> untilTokenExpiry() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+                if (claims.getExpiration() == null) {
+                    return 0;
+                }
+                long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, claims, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.jwtsecurityservice.utill;
+
+import com.project.jwtsecurityservice.dto.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sign, parse and validate throughput of JwtUtil with its key and parser built once, against
+ * the pre-change code that derived the HMAC key and built a new parser on every call. The
+ * parser build (deserializer lookup, validation setup) is where the per-call cost was.
+ * Run with mvn test -Pbenchmark.
+ */
+@Tag("benchmark")
+class JwtUtilBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+    private static final long EXPIRATION_MS = 86_400_000L;
+    private static final int USERS = 1_000;
+    private static final int THREADS = 16;
+    private static final int WARMUP_OPS = 50_000;
+    private static final int MEASURED_OPS = 200_000;
+
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", EXPIRATION_MS);
+        jwtUtil.init();
+
+        tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = jwtUtil.generateToken("student" + i, "STUDENT");
+        }
+    }
+
+    @Test
+    void cachedKeyAndParserOutrunPerCallRebuild() throws Exception {
+        TokenClaims claims = jwtUtil.parseToken(tokens[7]);
+        assertThat(claims.getUsername()).isEqualTo("student7");
+        assertThat(claims.getRole()).isEqualTo("STUDENT");
+        assertThat(rebuiltParse(tokens[7]).getSubject()).isEqualTo("student7");
+
+        Map<String, IntConsumer> cached = Map.of(
+                "sign", i -> jwtUtil.generateToken("student" + (i % USERS), "STUDENT"),
+                "parse", i -> jwtUtil.parseToken(tokens[i % USERS]),
+                "validate", i -> assertThat(jwtUtil.isTokenValid(tokens[i % USERS])).isTrue());
+        Map<String, IntConsumer> rebuilt = Map.of(
+                "sign", i -> rebuiltSign("student" + (i % USERS), "STUDENT"),
+                "parse", i -> rebuiltParse(tokens[i % USERS]),
+                "validate", i -> rebuiltParse(tokens[i % USERS]));
+
+        System.out.printf("%njwt ops/s, %d threads   rebuilt      cached%n", THREADS);
+        for (String op : List.of("sign", "parse", "validate")) {
+            run(rebuilt.get(op), WARMUP_OPS);
+            run(cached.get(op), WARMUP_OPS);
+            double rebuiltOps = run(rebuilt.get(op), MEASURED_OPS);
+            double cachedOps = run(cached.get(op), MEASURED_OPS);
+            System.out.printf("%-22s %10.0f  %10.0f%n", op, rebuiltOps, cachedOps);
+
+            // Deriving the key is cheap, so signing is reported but not asserted
+            if (!op.equals("sign")) {
+                assertThat(cachedOps).as(op).isGreaterThan(rebuiltOps);
+            }
+        }
+    }
+
+    // What generateToken did before the key was cached
+    private static String rebuiltSign(String username, String role) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("role", role);
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(username)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(rebuiltKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // What extractClaims did before the parser was cached
+    private static Claims rebuiltParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(rebuiltKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key rebuiltKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Operations per second across THREADS workers
+    private static double run(IntConsumer op, int ops) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            int perThread = ops / THREADS;
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        op.accept(offset + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return perThread * THREADS / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -23,27 +23,21 @@ const Dashboard = ({ onNavigateToGenie }) => {
     const fetchDashboardData = async () => {
         try {
             setLoading(true);
-            const profileRes = await fetchWithAuth(`${API_BASE_URL}/api/profile/${username}`);
-            if (profileRes.ok) {
-                const profileData = await profileRes.json();
-                setProfile(profileData);
-            }
-            if (userInfo?.role === 'STUDENT') {
-                const attendanceRes = await fetchWithAuth(`${API_BASE_URL}/api/attendance/student/${username}/stats`);
-                if (attendanceRes.ok) {
-                    const attendanceData = await attendanceRes.json();
-                    setAttendanceStats(attendanceData);
+            // Single gateway call; the gateway fetches each section in parallel
+            const dashboardRes = await fetchWithAuth(`${API_BASE_URL}/api/dashboard`);
+            if (dashboardRes.ok) {
+                const dashboardData = await dashboardRes.json();
+                if (dashboardData.profile) {
+                    setProfile(dashboardData.profile);
                 }
-
-                const applicationsRes = await fetchWithAuth(`${API_BASE_URL}/api/placements/applications/student/${username}`);
-                if (applicationsRes.ok) {
-                    const applicationsData = await applicationsRes.json();
-                    setApplications(applicationsData);
+                if (dashboardData.attendanceStats) {
+                    setAttendanceStats(dashboardData.attendanceStats);
+                }
+                if (dashboardData.applications) {
+                    setApplications(dashboardData.applications);
                 }
-                const placementsRes = await fetchWithAuth(`${API_BASE_URL}/api/placements/available?studentUsername=${username}`);
-                if (placementsRes.ok) {
-                    const placementsData = await placementsRes.json();
-                    setUpcomingPlacements(placementsData.slice(0, 3));
+                if (dashboardData.availablePlacements) {
+                    setUpcomingPlacements(dashboardData.availablePlacements.slice(0, 3));
                 }
             }
         } catch (error) {
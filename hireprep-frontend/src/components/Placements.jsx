@@ -336,7 +336,9 @@ const Placements = () => {
                             </div>
 
                             <p className="placement-description">
-                                {placement.description?.substring(0, 100)}{placement.description?.length > 100 ? '...' : ''}
+                                {placement.descriptionPreview ?? (
+                                    <>{placement.description?.substring(0, 100)}{placement.description?.length > 100 ? '...' : ''}</>
+                                )}
                             </p>
 
                             {userRole === 'STUDENT' && activeTab === 'available' ? (